@@ -0,0 +1,62 @@
+package com.expensetracker.dto.response;
+
+import com.expensetracker.entity.enums.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks for Jackson serialization of a transaction list page
+ * The ObjectMapper is configured like Spring Boot's default one
+ */
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDTO<TransactionSummaryDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<TransactionSummaryDTO> content = new ArrayList<>(pageSize);
+        LocalDate date = LocalDate.of(2024, 3, 31);
+        for (int i = 0; i < pageSize; i++) {
+            BigDecimal amount = BigDecimal.valueOf(-(1_000 + i * 37L), 2);
+            content.add(new TransactionSummaryDTO(
+                    (long) i, amount, "Transaction " + i, date.minusDays(i % 30),
+                    TransactionType.EXPENSE, 7L, "Food", "#FF5733", "restaurant", amount.abs()));
+        }
+
+        page = PageResponseDTO.<TransactionSummaryDTO>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(pageSize * 10L)
+                .totalPages(10)
+                .first(true)
+                .last(false)
+                .empty(false)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
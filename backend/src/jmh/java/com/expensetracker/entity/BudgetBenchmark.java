@@ -0,0 +1,58 @@
+package com.expensetracker.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Benchmarks for Budget percentage and alert-threshold math on fixed-point amounts
+ */
+@State(Scope.Benchmark)
+public class BudgetBenchmark {
+
+    private Budget budget;
+    private Money spent;
+    private Money limit;
+
+    @Setup
+    public void setUp() {
+        budget = Budget.builder()
+                .limitAmount(new BigDecimal("500.00"))
+                .spentAmount(new BigDecimal("412.37"))
+                .alertThreshold(new BigDecimal("80.00"))
+                .alertEnabled(true)
+                .month(3)
+                .year(2024)
+                .build();
+        spent = Money.of(budget.getSpentAmount(), "USD");
+        limit = Money.of(budget.getLimitAmount(), "USD");
+    }
+
+    @Benchmark
+    public BigDecimal getPercentageUsed() {
+        return budget.getPercentageUsed();
+    }
+
+    @Benchmark
+    public boolean hasReachedAlertThreshold() {
+        return budget.hasReachedAlertThreshold();
+    }
+
+    @Benchmark
+    public boolean isExceeded() {
+        return budget.isExceeded();
+    }
+
+    @Benchmark
+    public BigDecimal getRemainingAmount() {
+        return budget.getRemainingAmount();
+    }
+
+    @Benchmark
+    public Money moneyPlus() {
+        return spent.plus(limit);
+    }
+}
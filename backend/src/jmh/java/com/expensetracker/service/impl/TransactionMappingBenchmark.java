@@ -0,0 +1,83 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.response.TransactionResponseDTO;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Benchmarks for the per-request mapping helpers in TransactionServiceImpl
+ * Summary rows are built by the JPQL constructor projection, so the
+ * TransactionSummaryDTO constructor is measured in place of a mapper.
+ */
+@State(Scope.Benchmark)
+public class TransactionMappingBenchmark {
+
+    private Transaction transaction;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+
+        Category category = new Category();
+        category.setId(7L);
+        category.setName("Food");
+        category.setColor("#FF5733");
+        category.setIcon("restaurant");
+
+        transaction = new Transaction();
+        transaction.setId(42L);
+        transaction.setUser(user);
+        transaction.setCategory(category);
+        transaction.setAmount(new BigDecimal("-50.00"));
+        transaction.setDescription("Lunch");
+        transaction.setTransactionDate(LocalDate.of(2024, 3, 15));
+        transaction.setTransactionType(TransactionType.EXPENSE);
+        transaction.setPaymentMethod(PaymentMethod.CARD);
+        transaction.setActive(true);
+        transaction.setCreatedAt(LocalDateTime.of(2024, 3, 15, 12, 30));
+        transaction.setUpdatedAt(LocalDateTime.of(2024, 3, 15, 12, 30));
+
+        amount = new BigDecimal("123.45");
+    }
+
+    @Benchmark
+    public TransactionResponseDTO mapToResponseDTO() {
+        return TransactionServiceImpl.mapToResponseDTO(transaction);
+    }
+
+    @Benchmark
+    public TransactionSummaryDTO summaryProjection() {
+        return new TransactionSummaryDTO(
+                transaction.getId(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                transaction.getTransactionDate(),
+                transaction.getTransactionType(),
+                7L, "Food", "#FF5733", "restaurant",
+                transaction.getAmount().abs());
+    }
+
+    @Benchmark
+    public BigDecimal adjustAmountSignIncome() {
+        return TransactionServiceImpl.adjustAmountSign(amount, TransactionType.INCOME);
+    }
+
+    @Benchmark
+    public BigDecimal adjustAmountSignExpense() {
+        return TransactionServiceImpl.adjustAmountSign(amount, TransactionType.EXPENSE);
+    }
+}
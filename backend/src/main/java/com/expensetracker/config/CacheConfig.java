@@ -0,0 +1,142 @@
+package com.expensetracker.config;
+
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.security.AuthenticatedUser;
+import com.expensetracker.security.ExpiringEntry;
+import com.expensetracker.security.VerifiedSession;
+import com.expensetracker.service.IdempotencyService.StoredResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * In-process cache configuration
+ * Caches are bounded, expire on a TTL and publish hit/miss metrics (cache.gets, cache.evictions, ...)
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Per-user category cache: user ID to that user's categories keyed by category ID
+     */
+    @Bean
+    public Cache<Long, Map<Long, CategoryDTO>> categoryCache(
+            @Value("${app.cache.categories.ttl:10m}") Duration ttl,
+            @Value("${app.cache.categories.max-users:10000}") long maxUsers,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        Cache<Long, Map<Long, CategoryDTO>> cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "categories"));
+        return cache;
+    }
+
+    /**
+     * Verified-session cache: hex SHA-256 token digest to the validated session
+     * Entries never outlive the session itself and are capped at max-ttl so that
+     * an invalidation on another node is picked up within that window
+     */
+    @Bean
+    public Cache<String, VerifiedSession> sessionCache(
+            @Value("${app.cache.sessions.max-ttl:60s}") Duration maxTtl,
+            @Value("${app.cache.sessions.max-size:100000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        Cache<String, VerifiedSession> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpiresAtExpiry<VerifiedSession>(maxTtl))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "sessions"));
+        return cache;
+    }
+
+    /**
+     * Verified-token cache: hex SHA-256 token digest to the principal read from its claims
+     * Lets repeat requests with the same token skip signature verification and parsing
+     */
+    @Bean
+    public Cache<String, AuthenticatedUser> verifiedTokenCache(
+            @Value("${app.cache.tokens.max-ttl:10m}") Duration maxTtl,
+            @Value("${app.cache.tokens.max-size:10000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        Cache<String, AuthenticatedUser> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpiresAtExpiry<AuthenticatedUser>(maxTtl))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "tokens"));
+        return cache;
+    }
+
+    /**
+     * Idempotency cache: user ID and hex key digest to the response stored for that key
+     * Hot keys replay without a database round trip; the table stays the source of truth.
+     * Entries hold whole response bodies, so the cache is bounded by their total length
+     */
+    @Bean
+    public Cache<String, StoredResponse> idempotencyCache(
+            @Value("${app.cache.idempotency.max-ttl:10m}") Duration maxTtl,
+            @Value("${app.cache.idempotency.max-memory:32MB}") DataSize maxMemory,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        Cache<String, StoredResponse> cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String key, StoredResponse stored) -> stored.sizeInBytes())
+                .expireAfter(new ExpiresAtExpiry<StoredResponse>(maxTtl))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "idempotency"));
+        return cache;
+    }
+
+    /**
+     * Expires a cached entry at its expiresAt, or after maxTtl if that comes first
+     */
+    public static class ExpiresAtExpiry<V extends ExpiringEntry> implements Expiry<String, V> {
+
+        private final Duration maxTtl;
+
+        public ExpiresAtExpiry(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, V entry, long currentTime) {
+            Duration remaining = Duration.between(LocalDateTime.now(), entry.getExpiresAt());
+            if (remaining.isNegative()) {
+                return 0L;
+            }
+            return (remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, V entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, V entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.expensetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password hashing configuration
+ * BCrypt runs on a dedicated, bounded executor so a login burst cannot occupy
+ * the request threads that serve the rest of the API
+ */
+@Configuration
+public class PasswordConfig {
+
+    /**
+     * BCrypt encoder used for new hashes and rehashes
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.cost:10}") int cost) {
+        return new BCryptPasswordEncoder(cost);
+    }
+
+    /**
+     * Fixed-size executor for password hashing
+     * Defaults to one thread per core; a full queue rejects instead of growing
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordVerificationExecutor(
+            @Value("${app.security.password-executor.threads:0}") int threads,
+            @Value("${app.security.password-executor.queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(executor, "password.verification", Tags.empty()).bindTo(registry));
+        return executor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.expensetracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Retry configuration
+ * Enables @Retryable; the retry advice runs outside @Transactional,
+ * so every attempt gets a fresh transaction
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,35 @@
+package com.expensetracker.config;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bounded retry for writes that update shared counter rows (monthly rollup buckets, budgets)
+ * Those counters are changed with atomic relative UPDATEs and upserts, so the only
+ * transient failure is contention between concurrent writers: a deadlock or lock timeout
+ * on the counter rows. That aborts the whole transaction, which is then retried from the
+ * start with jittered backoff.
+ * Constraint violations are never retried: they are deterministic and would fail again.
+ * Optimistic version conflicts on user-edited rows are not retried; they surface as 409.
+ * Not used on the batch endpoint, where a retry would replay every row of the batch.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = PessimisticLockingFailureException.class,
+        maxAttemptsExpression = "${app.retry.counter-contention.max-attempts:3}",
+        backoff = @Backoff(
+                delayExpression = "${app.retry.counter-contention.delay-ms:20}",
+                maxDelayExpression = "${app.retry.counter-contention.max-delay-ms:200}",
+                multiplier = 2,
+                random = true))
+public @interface RetryOnCounterContention {
+}
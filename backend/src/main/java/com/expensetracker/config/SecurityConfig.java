@@ -1,39 +1,60 @@
 package com.expensetracker.config;
 
+import com.expensetracker.security.JwtAuthenticationFilter;
+import com.expensetracker.security.JwtTokenProvider;
+import com.expensetracker.service.SessionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Security configuration
- * TEMPORARY: Permits all requests for development
+ * Stateless JWT authentication: JwtAuthenticationFilter resolves the principal from
+ * token claims and checks the session cache, so invalidated tokens are rejected.
  * 
- * TODO: Implement JWT authentication in next phase
+ * TEMPORARY: /api/** stays open until app.security.enforce-authentication is enabled
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Value("${app.security.enforce-authentication:false}")
+    private boolean enforceAuthentication;
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtTokenProvider jwtTokenProvider,
+            SessionService sessionService) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.disable()) // Disable for now, WebConfig handles CORS
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/api/**").permitAll()
-                        .requestMatchers("/swagger-ui/**").permitAll()
-                        .requestMatchers("/v3/api-docs/**").permitAll()
-                        .requestMatchers("/swagger-ui.html").permitAll()
-                        .anyRequest().permitAll()
-                );
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, sessionService), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeHttpRequests(authz -> {
+                    authz
+                            .requestMatchers("/api/v1/health/**").permitAll()
+                            .requestMatchers("/api/v1/auth/**").permitAll()
+                            .requestMatchers("/swagger-ui/**").permitAll()
+                            .requestMatchers("/v3/api-docs/**").permitAll()
+                            .requestMatchers("/swagger-ui.html").permitAll();
+                    if (enforceAuthentication) {
+                        authz.requestMatchers("/api/**").authenticated();
+                    }
+                    authz.anyRequest().permitAll();
+                });
         
         return http.build();
     }
 }
-
@@ -0,0 +1,54 @@
+package com.expensetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events configuration
+ * Idle SSE connections hold no thread (async servlet); only delivery runs on this
+ * small pool, so the committing request thread never writes to a client socket
+ */
+@Configuration
+public class StreamConfig {
+
+    /**
+     * Fixed-size executor that drains per-subscriber buffers
+     * At most one drain task per subscriber is queued, so the queue is bounded
+     * by the number of open streams
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor transactionStreamExecutor(
+            @Value("${app.stream.sender-threads:4}") int threads,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "transaction-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                threadFactory);
+
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(executor, "transaction.stream", Tags.empty()).bindTo(registry));
+        return executor;
+    }
+}
@@ -1,12 +1,17 @@
 package com.expensetracker.config;
 
+import com.expensetracker.controller.IdempotencyFilter;
+import com.expensetracker.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC configuration
- * Includes CORS settings for development
+ * Includes CORS settings for development and the Idempotency-Key filter
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -17,8 +22,22 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "http://localhost:4200")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(IdempotencyFilter.REPLAYED_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
-}
 
+    /**
+     * Idempotency-Key handling for transaction create endpoints
+     * Default order places it after the Spring Security filter chain, so the user is known
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyService, objectMapper));
+        registration.addUrlPatterns("/api/v1/transactions", "/api/v1/transactions/batch");
+        return registration;
+    }
+}
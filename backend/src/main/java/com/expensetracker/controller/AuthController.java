@@ -0,0 +1,50 @@
+package com.expensetracker.controller;
+
+import com.expensetracker.dto.request.LoginRequestDTO;
+import com.expensetracker.dto.response.LoginResponseDTO;
+import com.expensetracker.service.AuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for authentication
+ * 
+ * Base path: /api/v1/auth
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Authentication", description = "Login endpoints")
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    @Operation(summary = "Log in", description = "Verifies email and password and issues a JWT")
+    @ApiResponse(responseCode = "200", description = "Login successful")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "401", description = "Invalid email or password")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent logins, retry later")
+    public ResponseEntity<LoginResponseDTO> login(
+            @Valid @RequestBody LoginRequestDTO dto,
+            HttpServletRequest request) {
+        
+        log.info("Login attempt");
+        
+        LoginResponseDTO response = authService.login(
+                dto,
+                request.getRemoteAddr(),
+                request.getHeader(HttpHeaders.USER_AGENT));
+        
+        return ResponseEntity.ok(response);
+    }
+}
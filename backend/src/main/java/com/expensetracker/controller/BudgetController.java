@@ -0,0 +1,61 @@
+package com.expensetracker.controller;
+
+import com.expensetracker.dto.response.BudgetStatusDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.security.CurrentUser;
+import com.expensetracker.service.BudgetService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * REST Controller for Budget operations
+ * 
+ * Base path: /api/v1/budgets
+ */
+@RestController
+@RequestMapping("/api/v1/budgets")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Budgets", description = "Budget endpoints")
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    /**
+     * Current user from the JWT principal (no DB lookup)
+     */
+    private User getCurrentUser() {
+        return CurrentUser.get();
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "Get budget status", 
+               description = "Returns limit, spent, remaining, percentage used and alert state " +
+                             "of every active budget in a month (defaults to the current month)")
+    @ApiResponse(responseCode = "200", description = "Budget status retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid year or month")
+    public ResponseEntity<List<BudgetStatusDTO>> getBudgetStatus(
+            @RequestParam(required = false) @Parameter(description = "Year (e.g. 2024)") Integer year,
+            @RequestParam(required = false) @Parameter(description = "Month (1-12)") Integer month) {
+        
+        YearMonth current = YearMonth.now();
+        int statusYear = year != null ? year : current.getYear();
+        int statusMonth = month != null ? month : current.getMonthValue();
+        
+        log.info("Getting budget status for {}-{}", statusYear, statusMonth);
+        
+        User currentUser = getCurrentUser();
+        List<BudgetStatusDTO> status = budgetService.getBudgetStatus(currentUser, statusYear, statusMonth);
+        
+        return ResponseEntity.ok(status);
+    }
+}
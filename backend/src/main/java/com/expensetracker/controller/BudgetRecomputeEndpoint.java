@@ -0,0 +1,37 @@
+package com.expensetracker.controller;
+
+import com.expensetracker.service.BudgetRecomputeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Admin endpoint for rebuilding budget spent amounts
+ * POST /actuator/budgetrecompute (all users) or with {"userId": n} (one user).
+ * Like every actuator endpoint it is only reachable once added to
+ * management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "budgetrecompute")
+@RequiredArgsConstructor
+public class BudgetRecomputeEndpoint {
+
+    private final BudgetRecomputeService budgetRecomputeService;
+
+    /**
+     * Rebuilds spent amounts for one user, or for everyone when userId is omitted
+     * @param userId user ID (optional)
+     * @return number of budgets corrected
+     */
+    @WriteOperation
+    public Map<String, Object> recompute(@Nullable Long userId) {
+        int corrected = userId != null
+                ? budgetRecomputeService.recomputeUser(userId)
+                : budgetRecomputeService.recomputeAll();
+        return Map.of("corrected", corrected);
+    }
+}
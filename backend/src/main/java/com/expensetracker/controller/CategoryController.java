@@ -2,6 +2,7 @@ package com.expensetracker.controller;
 
 import com.expensetracker.dto.response.CategoryDTO;
 import com.expensetracker.entity.User;
+import com.expensetracker.security.CurrentUser;
 import com.expensetracker.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,13 +28,11 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
-    // TODO: Replace with @AuthenticationPrincipal after security implementation
+    /**
+     * Current user from the JWT principal (no DB lookup)
+     */
     private User getCurrentUser() {
-        User demoUser = new User();
-        demoUser.setId(1L);
-        demoUser.setEmail("demo@expensetracker.com");
-        demoUser.setUsername("demo");
-        return demoUser;
+        return CurrentUser.get();
     }
 
     @GetMapping
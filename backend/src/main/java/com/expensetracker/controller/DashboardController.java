@@ -0,0 +1,60 @@
+package com.expensetracker.controller;
+
+import com.expensetracker.dto.response.DashboardDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.security.CurrentUser;
+import com.expensetracker.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for the dashboard
+ * 
+ * Base path: /api/v1/dashboard
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "Dashboard aggregate endpoints")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Current user from the JWT principal (no DB lookup)
+     */
+    private User getCurrentUser() {
+        return CurrentUser.get();
+    }
+
+    @GetMapping
+    @Operation(summary = "Get dashboard", 
+               description = "Returns totals, balance, expenses by category, transaction count " +
+                             "and recent transactions for a date range in one response")
+    @ApiResponse(responseCode = "200", description = "Dashboard retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid date range or limit")
+    public ResponseEntity<DashboardDTO> getDashboard(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "Start date (YYYY-MM-DD)") LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "End date (YYYY-MM-DD)") LocalDate endDate,
+            @RequestParam(defaultValue = "5") @Parameter(description = "Number of recent transactions") int recentLimit) {
+        
+        log.info("Getting dashboard for date range: {} to {}", startDate, endDate);
+        
+        User currentUser = getCurrentUser();
+        DashboardDTO dashboard = dashboardService.getDashboard(currentUser, startDate, endDate, recentLimit);
+        
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -1,12 +1,24 @@
 package com.expensetracker.controller;
 
 import com.expensetracker.dto.request.TransactionCreateDTO;
+import com.expensetracker.dto.request.TransactionCursor;
+import com.expensetracker.dto.request.TransactionExportFormat;
+import com.expensetracker.dto.request.TransactionSearchCriteria;
+import com.expensetracker.dto.request.TransactionSortOrder;
 import com.expensetracker.dto.request.TransactionUpdateDTO;
+import com.expensetracker.dto.response.CursorPageResponseDTO;
 import com.expensetracker.dto.response.PageResponseDTO;
+import com.expensetracker.dto.response.TransactionBatchResultDTO;
 import com.expensetracker.dto.response.TransactionResponseDTO;
 import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.security.CurrentUser;
+import com.expensetracker.service.TransactionExportService;
 import com.expensetracker.service.TransactionService;
+import com.expensetracker.service.TransactionStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,11 +29,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -42,20 +59,19 @@ import java.util.Map;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionStreamService transactionStreamService;
 
-    // TODO: Replace with @AuthenticationPrincipal after security implementation
+    /**
+     * Current user from the JWT principal (no DB lookup)
+     */
     private User getCurrentUser() {
-        // Temporary: Return demo user (ID=1)
-        // This will be replaced with proper JWT authentication
-        User demoUser = new User();
-        demoUser.setId(1L);
-        demoUser.setEmail("demo@expensetracker.com");
-        demoUser.setUsername("demo");
-        return demoUser;
+        return CurrentUser.get();
     }
 
     @PostMapping
-    @Operation(summary = "Create new transaction", description = "Creates a new income or expense transaction")
+    @Operation(summary = "Create new transaction", description = "Creates a new income or expense transaction. " +
+               "An Idempotency-Key header makes retries replay the first response")
     @ApiResponse(responseCode = "201", description = "Transaction created successfully")
     @ApiResponse(responseCode = "400", description = "Invalid input data")
     @ApiResponse(responseCode = "404", description = "Category not found")
@@ -71,10 +87,28 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create transactions in batch", 
+               description = "Creates many transactions in one request and returns a result per row. " +
+               "An Idempotency-Key header makes retries replay the first response")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-row results")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    public ResponseEntity<TransactionBatchResultDTO> createTransactionsBatch(
+            @RequestBody List<TransactionCreateDTO> dtos) {
+        
+        log.info("Creating transaction batch: size={}", dtos.size());
+        
+        User currentUser = getCurrentUser();
+        TransactionBatchResultDTO response = transactionService.createTransactions(dtos, currentUser);
+        
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update transaction", description = "Updates an existing transaction")
     @ApiResponse(responseCode = "200", description = "Transaction updated successfully")
     @ApiResponse(responseCode = "404", description = "Transaction not found")
+    @ApiResponse(responseCode = "409", description = "Transaction was modified concurrently (stale version)")
     public ResponseEntity<TransactionResponseDTO> updateTransaction(
             @PathVariable Long id,
             @Valid @RequestBody TransactionUpdateDTO dto) {
@@ -116,17 +150,17 @@ public class TransactionController {
     @GetMapping
     @Operation(summary = "Get all transactions", description = "Retrieves paginated list of user's transactions")
     @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Unsupported sort field or direction")
     public ResponseEntity<PageResponseDTO<TransactionSummaryDTO>> getAllTransactions(
             @RequestParam(defaultValue = "0") @Parameter(description = "Page number (0-indexed)") int page,
             @RequestParam(defaultValue = "20") @Parameter(description = "Page size") int size,
-            @RequestParam(defaultValue = "transactionDate") @Parameter(description = "Sort field") String sortBy,
-            @RequestParam(defaultValue = "DESC") @Parameter(description = "Sort direction") String sortDir) {
+            @RequestParam(defaultValue = "transactionDate") 
+            @Parameter(description = "Sort field (transactionDate, amount, createdAt or description)") String sortBy,
+            @RequestParam(defaultValue = "DESC") @Parameter(description = "Sort direction (ASC or DESC)") String sortDir) {
         
         log.info("Getting all transactions: page={}, size={}", page, size);
         
-        Sort sort = sortDir.equalsIgnoreCase("ASC") 
-                ? Sort.by(sortBy).ascending() 
-                : Sort.by(sortBy).descending();
+        Sort sort = TransactionSortOrder.fromValue(sortBy).toSort(sortDir);
         
         Pageable pageable = PageRequest.of(page, size, sort);
         User currentUser = getCurrentUser();
@@ -180,6 +214,165 @@ public class TransactionController {
         return ResponseEntity.ok(mapToPageResponse(transactions));
     }
 
+    @GetMapping(value = "/search", params = "q")
+    @Operation(summary = "Full-text search transactions", 
+               description = "Searches description and notes (Spanish and English word forms, plus substrings), " +
+                             "best match first")
+    @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Blank or too long query")
+    public ResponseEntity<PageResponseDTO<TransactionSummaryDTO>> searchTransactionsByText(
+            @RequestParam @Parameter(description = "Words or fragment, e.g. netflix or \"arriendo depto\"") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("Full-text searching transactions: page={}, size={}", page, size);
+        
+        User currentUser = getCurrentUser();
+        Page<TransactionSummaryDTO> transactions = transactionService.searchTransactionsByText(
+                currentUser, q, PageRequest.of(page, size));
+        
+        return ResponseEntity.ok(mapToPageResponse(transactions));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search transactions", 
+               description = "Combines any of date range, categories, type, payment method, amount bounds " +
+                             "and text in a single query, newest first")
+    @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid filter combination")
+    public ResponseEntity<PageResponseDTO<TransactionSummaryDTO>> searchTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "Start date (YYYY-MM-DD)") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "End date (YYYY-MM-DD)") LocalDate endDate,
+            @RequestParam(required = false) @Parameter(description = "Category IDs (any of)") List<Long> categoryIds,
+            @RequestParam(required = false) @Parameter(description = "Transaction type") TransactionType type,
+            @RequestParam(required = false) @Parameter(description = "Payment method") PaymentMethod paymentMethod,
+            @RequestParam(required = false) @Parameter(description = "Minimum absolute amount") BigDecimal minAmount,
+            @RequestParam(required = false) @Parameter(description = "Maximum absolute amount") BigDecimal maxAmount,
+            @RequestParam(required = false) @Parameter(description = "Text in description or notes") String text,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("Searching transactions: page={}, size={}", page, size);
+        
+        TransactionSearchCriteria criteria = TransactionSearchCriteria.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .categoryIds(categoryIds)
+                .transactionType(type)
+                .paymentMethod(paymentMethod)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .text(text)
+                .build();
+        User currentUser = getCurrentUser();
+        
+        Page<TransactionSummaryDTO> transactions = transactionService.searchTransactions(
+                currentUser, criteria, PageRequest.of(page, size));
+        
+        return ResponseEntity.ok(mapToPageResponse(transactions));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all transactions (cursor)", 
+               description = "Retrieves user's transactions using keyset pagination, newest first")
+    @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    public ResponseEntity<CursorPageResponseDTO<TransactionSummaryDTO>> getAllTransactionsByCursor(
+            @RequestParam(required = false) @Parameter(description = "Cursor from the previous page") String cursor,
+            @RequestParam(defaultValue = "20") @Parameter(description = "Page size (1-100)") int size) {
+        
+        log.info("Getting all transactions by cursor: size={}", size);
+        
+        User currentUser = getCurrentUser();
+        Slice<TransactionSummaryDTO> transactions = transactionService.getUserTransactions(
+                currentUser, TransactionCursor.decode(cursor), size);
+        
+        return ResponseEntity.ok(mapToCursorResponse(transactions));
+    }
+
+    @GetMapping("/date-range/cursor")
+    @Operation(summary = "Get transactions by date range (cursor)", 
+               description = "Retrieves transactions within a date range using keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor, date range or page size")
+    public ResponseEntity<CursorPageResponseDTO<TransactionSummaryDTO>> getTransactionsByDateRangeByCursor(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "Start date (YYYY-MM-DD)") LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "End date (YYYY-MM-DD)") LocalDate endDate,
+            @RequestParam(required = false) @Parameter(description = "Cursor from the previous page") String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("Getting transactions by date range by cursor: {} to {}", startDate, endDate);
+        
+        User currentUser = getCurrentUser();
+        Slice<TransactionSummaryDTO> transactions = transactionService.getTransactionsByDateRange(
+                currentUser, startDate, endDate, TransactionCursor.decode(cursor), size);
+        
+        return ResponseEntity.ok(mapToCursorResponse(transactions));
+    }
+
+    @GetMapping("/category/{categoryId}/cursor")
+    @Operation(summary = "Get transactions by category (cursor)", 
+               description = "Retrieves transactions for a category using keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    @ApiResponse(responseCode = "404", description = "Category not found")
+    public ResponseEntity<CursorPageResponseDTO<TransactionSummaryDTO>> getTransactionsByCategoryByCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) @Parameter(description = "Cursor from the previous page") String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("Getting transactions by category by cursor: categoryId={}", categoryId);
+        
+        User currentUser = getCurrentUser();
+        Slice<TransactionSummaryDTO> transactions = transactionService.getTransactionsByCategory(
+                currentUser, categoryId, TransactionCursor.decode(cursor), size);
+        
+        return ResponseEntity.ok(mapToCursorResponse(transactions));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export transactions", 
+               description = "Streams the user's full transaction history as CSV or NDJSON, oldest first")
+    @ApiResponse(responseCode = "200", description = "Export stream started")
+    @ApiResponse(responseCode = "400", description = "Unsupported format or invalid date range")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") @Parameter(description = "Output format (csv or ndjson)") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "Start date (YYYY-MM-DD)") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) 
+            @Parameter(description = "End date (YYYY-MM-DD)") LocalDate endDate) {
+        
+        log.info("Exporting transactions: format={}, {} to {}", format, startDate, endDate);
+        
+        TransactionExportFormat exportFormat = TransactionExportFormat.fromValue(format);
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+        
+        User currentUser = getCurrentUser();
+        StreamingResponseBody body = outputStream -> transactionExportService.exportTransactions(
+                currentUser, startDate, endDate, exportFormat, outputStream);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream transaction changes", 
+               description = "Server-Sent Events: one 'transaction' event per committed create, batch create, " +
+                             "update or delete, with per-day totals deltas")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    public SseEmitter streamTransactions() {
+        return transactionStreamService.subscribe(getCurrentUser().getId());
+    }
+
     @GetMapping("/recent")
     @Operation(summary = "Get recent transactions", description = "Retrieves most recent transactions")
     @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully")
@@ -248,5 +441,24 @@ public class TransactionController {
                 .last(page.isLast())
                 .build();
     }
+
+    /**
+     * Maps a keyset Slice to CursorPageResponseDTO, encoding the last row as next cursor
+     */
+    private CursorPageResponseDTO<TransactionSummaryDTO> mapToCursorResponse(Slice<TransactionSummaryDTO> slice) {
+        List<TransactionSummaryDTO> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            TransactionSummaryDTO last = content.get(content.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDTO.<TransactionSummaryDTO>builder()
+                .content(content)
+                .size(slice.getSize())
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
 }
 
@@ -0,0 +1,57 @@
+package com.expensetracker.dto.request;
+
+import com.expensetracker.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction listings
+ * Encodes the (transactionDate, id) of the last row of the previous page
+ */
+@Value
+public class TransactionCursor {
+
+    /**
+     * Cursor positioned before the newest possible transaction (first page)
+     */
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = ':';
+
+    LocalDate transactionDate;
+    Long id;
+
+    /**
+     * Decodes a cursor received from a client
+     * @param cursor encoded cursor, or null/blank for the first page
+     * @return decoded cursor
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDate.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Encodes this cursor for clients
+     * @return URL-safe opaque string
+     */
+    public String encode() {
+        String raw = transactionDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
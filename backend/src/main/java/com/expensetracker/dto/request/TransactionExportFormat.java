@@ -0,0 +1,33 @@
+package com.expensetracker.dto.request;
+
+import com.expensetracker.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Output formats supported by the transaction export endpoint
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    /**
+     * Resolves a format from a request parameter, case-insensitively
+     * @param value requested format
+     * @return matching format
+     * @throws BadRequestException if the format is unsupported
+     */
+    public static TransactionExportFormat fromValue(String value) {
+        for (TransactionExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + value);
+    }
+}
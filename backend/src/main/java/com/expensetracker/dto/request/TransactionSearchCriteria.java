@@ -0,0 +1,48 @@
+package com.expensetracker.dto.request;
+
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters for the multi-criteria transaction search
+ * Every field is optional; absent fields add no predicate
+ */
+@Value
+@Builder
+public class TransactionSearchCriteria {
+
+    LocalDate startDate;
+    LocalDate endDate;
+    List<Long> categoryIds;
+    TransactionType transactionType;
+    PaymentMethod paymentMethod;
+
+    /**
+     * Lower bound on the absolute amount (inclusive)
+     */
+    BigDecimal minAmount;
+
+    /**
+     * Upper bound on the absolute amount (inclusive)
+     */
+    BigDecimal maxAmount;
+
+    /**
+     * Case-insensitive substring of the description or notes
+     */
+    String text;
+
+    public boolean hasCategories() {
+        return categoryIds != null && !categoryIds.isEmpty();
+    }
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,49 @@
+package com.expensetracker.dto.request;
+
+import com.expensetracker.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort orders supported by the transaction listing
+ * Each one is backed by a (user_id, field, id) index (see V5 and V13), so pages are
+ * read in index order in either direction; id breaks ties so paging is stable
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TransactionSortOrder {
+    TRANSACTION_DATE("transactionDate"),
+    AMOUNT("amount"),
+    CREATED_AT("createdAt"),
+    DESCRIPTION("description");
+
+    private final String property;
+
+    /**
+     * Resolves a sort order from the sortBy request parameter, case-insensitively
+     * @param value entity property name (e.g. "amount")
+     * @return matching sort order
+     * @throws BadRequestException if the field is not sortable
+     */
+    public static TransactionSortOrder fromValue(String value) {
+        for (TransactionSortOrder order : values()) {
+            if (order.property.equalsIgnoreCase(value)) {
+                return order;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + value);
+    }
+
+    /**
+     * Builds the Sort for this order with the id tiebreaker in the same direction
+     * @param direction requested direction (ASC or DESC, case-insensitive)
+     * @return sort by field then id
+     * @throws BadRequestException if the direction is invalid
+     */
+    public Sort toSort(String direction) {
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Unsupported sort direction: " + direction));
+        return Sort.by(sortDirection, property, "id");
+    }
+}
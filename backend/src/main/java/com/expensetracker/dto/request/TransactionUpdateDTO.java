@@ -38,6 +38,12 @@ public class TransactionUpdateDTO {
     @PastOrPresent(message = "Transaction date cannot be in the future")
     private LocalDate transactionDate;
 
+    /**
+     * Version the client last read (optional); a mismatch is rejected with 409
+     */
+    @PositiveOrZero(message = "Version cannot be negative")
+    private Long version;
+
     @Size(max = 255, message = "Notes must not exceed 255 characters")
     private String notes;
 }
@@ -0,0 +1,52 @@
+package com.expensetracker.dto.response;
+
+import com.expensetracker.entity.Budget;
+import com.expensetracker.entity.enums.BudgetAlertState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a budget's status in a period
+ * Built directly by BudgetRepository.findStatusByUserAndPeriod
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetStatusDTO {
+
+    private Long budgetId;
+    private Long categoryId;
+    private String categoryName;
+    private String categoryColor;
+    private String categoryIcon;
+    private BigDecimal limitAmount;
+    private BigDecimal spentAmount;
+    private BigDecimal remainingAmount;
+    private BigDecimal percentageUsed;
+    private BigDecimal alertThreshold;
+    private BudgetAlertState alertState;
+
+    /**
+     * Projection constructor; derives remaining amount and percentage used
+     */
+    public BudgetStatusDTO(
+            Long budgetId,
+            Long categoryId,
+            String categoryName,
+            String categoryColor,
+            String categoryIcon,
+            BigDecimal limitAmount,
+            BigDecimal spentAmount,
+            BigDecimal alertThreshold,
+            BudgetAlertState alertState) {
+
+        this(budgetId, categoryId, categoryName, categoryColor, categoryIcon,
+                limitAmount, spentAmount, limitAmount.subtract(spentAmount),
+                Budget.percentageUsed(spentAmount, limitAmount), alertThreshold, alertState);
+    }
+}
@@ -0,0 +1,31 @@
+package com.expensetracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the dashboard response
+ * Everything the dashboard renders for a date range, in one payload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardDTO {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpenses; // Positive value
+    private BigDecimal balance;
+    private long transactionCount;
+    private Map<String, BigDecimal> expensesByCategory; // Largest first, positive values
+    private List<TransactionSummaryDTO> recentTransactions;
+}
@@ -0,0 +1,31 @@
+package com.expensetracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO returned after a successful login
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginResponseDTO {
+
+    private String token;
+
+    @Builder.Default
+    private String tokenType = "Bearer";
+
+    private LocalDateTime expiresAt;
+
+    private Long userId;
+
+    private String username;
+
+    private String currency;
+}
@@ -0,0 +1,24 @@
+package com.expensetracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a single row in a batch create request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBatchItemDTO {
+
+    // Position of the row in the request body (0-indexed)
+    private int index;
+    private boolean created;
+    private Long id;
+    private List<String> errors;
+}
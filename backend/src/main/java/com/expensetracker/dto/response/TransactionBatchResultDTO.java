@@ -0,0 +1,24 @@
+package com.expensetracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch create responses
+ * Contains one result per submitted row, in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBatchResultDTO {
+
+    private int totalCount;
+    private int createdCount;
+    private int failedCount;
+    private List<TransactionBatchItemDTO> results;
+}
@@ -0,0 +1,32 @@
+package com.expensetracker.dto.response;
+
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one exported transaction row (CSV / NDJSON)
+ * Field order defines the all-args constructor used by the JPQL
+ * projection in TransactionRepository; keep them in sync.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionExportDTO {
+
+    private Long id;
+    private LocalDate transactionDate;
+    private TransactionType transactionType;
+    private BigDecimal amount;
+    private String description;
+    private String categoryName;
+    private PaymentMethod paymentMethod;
+    private String notes;
+}
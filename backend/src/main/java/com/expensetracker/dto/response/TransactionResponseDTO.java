@@ -41,6 +41,9 @@ public class TransactionResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Boolean active;
+
+    // Optimistic lock version; send it back in updates to detect concurrent edits
+    private Long version;
     
     // Computed fields
     private BigDecimal absoluteAmount;
@@ -11,6 +11,8 @@ import java.time.LocalDate;
 
 /**
  * DTO for transaction summary (minimal information for lists)
+ * Field order defines the all-args constructor used by the JPQL
+ * projection queries in TransactionRepository; keep them in sync.
  */
 @Data
 @NoArgsConstructor
@@ -1,17 +1,22 @@
 package com.expensetracker.entity;
 
+import com.expensetracker.entity.enums.BudgetAlertState;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -81,6 +86,22 @@ public class Budget {
     @Builder.Default
     private BigDecimal alertThreshold = new BigDecimal("80.00");
 
+    /**
+     * Maintained on every write; see BudgetAlertState.of
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_state", nullable = false, length = 10)
+    @Builder.Default
+    private BudgetAlertState alertState = BudgetAlertState.OK;
+
+    /**
+     * Last alert state emitted by BudgetAlertEvaluator
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_notified_state", nullable = false, length = 10)
+    @Builder.Default
+    private BudgetAlertState alertNotifiedState = BudgetAlertState.OK;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -93,18 +114,40 @@ public class Budget {
     @Builder.Default
     private Boolean active = true;
 
+    /**
+     * Optimistic lock version; also bumped by the bulk spent/alert updates in BudgetRepository
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Fixed-point copies of the amount fields, recomputed only when a field is reassigned
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final MinorUnits minorUnits = new MinorUnits();
+
     /**
      * Calculates the percentage of budget used
      * @return percentage as BigDecimal (0-100+)
      */
     public BigDecimal getPercentageUsed() {
-        if (limitAmount.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-        return spentAmount
-                .divide(limitAmount, 4, RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"))
-                .setScale(2, RoundingMode.HALF_UP);
+        return BigDecimal.valueOf(percentBasisPoints(), 2);
+    }
+
+    /**
+     * Percentage of a limit used, rounded to 2 decimals
+     * @param spentAmount amount spent
+     * @param limitAmount budget limit
+     * @return percentage as BigDecimal (0-100+)
+     */
+    public static BigDecimal percentageUsed(BigDecimal spentAmount, BigDecimal limitAmount) {
+        return BigDecimal.valueOf(Money.percentBasisPoints(
+                Money.toMinorUnits(spentAmount), Money.toMinorUnits(limitAmount)), 2);
     }
 
     /**
@@ -112,7 +155,7 @@ public class Budget {
      * @return remaining amount as BigDecimal
      */
     public BigDecimal getRemainingAmount() {
-        return limitAmount.subtract(spentAmount);
+        return BigDecimal.valueOf(minorUnits.limit(limitAmount) - minorUnits.spent(spentAmount), Money.SCALE);
     }
 
     /**
@@ -120,7 +163,7 @@ public class Budget {
      * @return true if spent amount exceeds limit amount
      */
     public boolean isExceeded() {
-        return spentAmount.compareTo(limitAmount) > 0;
+        return minorUnits.spent(spentAmount) > minorUnits.limit(limitAmount);
     }
 
     /**
@@ -131,7 +174,7 @@ public class Budget {
         if (!alertEnabled) {
             return false;
         }
-        return getPercentageUsed().compareTo(alertThreshold) >= 0;
+        return percentBasisPoints() >= minorUnits.threshold(alertThreshold);
     }
 
     /**
@@ -153,6 +196,22 @@ public class Budget {
         }
     }
 
+    /**
+     * Recomputes alertState from spent amount, limit, threshold and alert flag
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshAlertState() {
+        this.alertState = spentAmount == null || limitAmount == null || alertThreshold == null
+                ? BudgetAlertState.OK
+                : BudgetAlertState.of(minorUnits.spent(spentAmount), minorUnits.limit(limitAmount),
+                        minorUnits.threshold(alertThreshold), Boolean.TRUE.equals(alertEnabled));
+    }
+
+    private long percentBasisPoints() {
+        return Money.percentBasisPoints(minorUnits.spent(spentAmount), minorUnits.limit(limitAmount));
+    }
+
     @Override
     public String toString() {
         return "Budget{" +
@@ -161,9 +220,47 @@ public class Budget {
                 ", month=" + month +
                 ", year=" + year +
                 ", spentAmount=" + spentAmount +
-                ", percentageUsed=" + getPercentageUsed() + "%" +
+                ", alertState=" + alertState +
                 ", active=" + active +
                 '}';
     }
-}
 
+    /**
+     * Memoized hundredths of the BigDecimal fields
+     * Keyed on the field's instance, so reassignment through setters, the builder,
+     * Hibernate or a refresh is picked up without hooking each of them
+     */
+    private static final class MinorUnits {
+
+        private BigDecimal spentSource;
+        private long spent;
+        private BigDecimal limitSource;
+        private long limit;
+        private BigDecimal thresholdSource;
+        private long threshold;
+
+        long spent(BigDecimal amount) {
+            if (amount != spentSource) {
+                spent = Money.toMinorUnits(amount);
+                spentSource = amount;
+            }
+            return spent;
+        }
+
+        long limit(BigDecimal amount) {
+            if (amount != limitSource) {
+                limit = Money.toMinorUnits(amount);
+                limitSource = amount;
+            }
+            return limit;
+        }
+
+        long threshold(BigDecimal percentage) {
+            if (percentage != thresholdSource) {
+                threshold = Money.toMinorUnits(percentage);
+                thresholdSource = percentage;
+            }
+            return threshold;
+        }
+    }
+}
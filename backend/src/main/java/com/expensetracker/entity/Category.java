@@ -1,5 +1,6 @@
 package com.expensetracker.entity;
 
+import com.expensetracker.entity.listener.CategoryCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -28,7 +29,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CategoryCacheEvictionListener.class})
 public class Category {
 
     @Id
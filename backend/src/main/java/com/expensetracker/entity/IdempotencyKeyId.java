@@ -0,0 +1,26 @@
+package com.expensetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key for IdempotencyKey
+ * One row per (user, SHA-256 digest of the Idempotency-Key header)
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "key_hash", nullable = false, length = 32)
+    private byte[] keyHash;
+}
@@ -0,0 +1,202 @@
+package com.expensetracker.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Fixed-point amount of money: a long count of hundredths plus an ISO currency
+ * Uses the same two decimals as the DECIMAL(12,2) columns whatever the currency,
+ * so converting to and from a column value is exact. Arithmetic and comparison
+ * work on the long and never allocate a BigDecimal; one is created only at the
+ * JSON or persistence boundary.
+ *
+ * JSON form is the bare decimal number, exactly as a BigDecimal amount was written.
+ */
+@JsonSerialize(using = Money.JsonSerializer.class)
+@JsonDeserialize(using = Money.JsonDeserializer.class)
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Decimal places of every stored amount
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Currency of users that have not chosen one (see User.currency)
+     */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    /**
+     * @param minorUnits amount in hundredths
+     * @param currency ISO currency
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * @param amount decimal amount, rounded half-up to two decimals
+     * @param currencyCode ISO 4217 code, e.g. User.currency; null means the default currency
+     */
+    public static Money of(BigDecimal amount, String currencyCode) {
+        return new Money(toMinorUnits(amount), currencyCode == null ? DEFAULT_CURRENCY : Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * Hundredths in a decimal amount, rounded half-up
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Ratio of two amounts in hundredths of a percent (basis points), rounded half-up
+     * Equivalent to part * 100 / whole at scale 2 with HALF_UP, without allocation
+     * @return 0 when whole is zero
+     */
+    public static long percentBasisPoints(long part, long whole) {
+        if (whole == 0) {
+            return 0;
+        }
+        long numerator = Math.multiplyExact(part, BASIS_POINTS);
+        long quotient = numerator / whole;
+        long remainder = numerator % whole;
+        if (Math.abs(remainder) * 2 >= Math.abs(whole)) {
+            quotient += Long.signum(numerator) * Long.signum(whole);
+        }
+        return quotient;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public Money abs() {
+        return minorUnits < 0 ? negate() : this;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    /**
+     * Decimal form with two decimals, for persistence and JSON
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException(
+                    "Currency mismatch: " + currency.getCurrencyCode() + " vs " + other.currency.getCurrencyCode());
+        }
+    }
+
+    /**
+     * Writes the amount as a plain JSON number (e.g. -12.30), the same as a BigDecimal field
+     */
+    public static class JsonSerializer extends StdScalarSerializer<Money> {
+
+        public JsonSerializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    /**
+     * Reads a JSON number or numeric string in the default currency
+     * The wire format carries no currency
+     */
+    public static class JsonDeserializer extends StdScalarDeserializer<Money> {
+
+        public JsonDeserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            BigDecimal amount = parser.currentToken() == JsonToken.VALUE_STRING
+                    ? new BigDecimal(parser.getText().trim())
+                    : parser.getDecimalValue();
+            return new Money(toMinorUnits(amount), DEFAULT_CURRENCY);
+        }
+    }
+}
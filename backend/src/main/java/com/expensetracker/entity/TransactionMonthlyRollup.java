@@ -0,0 +1,50 @@
+package com.expensetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Pre-aggregated monthly totals of active transactions
+ * Maps to 'transaction_monthly_rollup' table in the database
+ *
+ * Maintained incrementally by the transaction write paths so that
+ * whole-month aggregates never have to scan the transactions table.
+ */
+@Entity
+@Table(name = "transaction_monthly_rollup", indexes = {
+    @Index(name = "idx_rollup_user_period", columnList = "user_id, year, month")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionMonthlyRollup {
+
+    @EmbeddedId
+    private TransactionMonthlyRollupId id;
+
+    /**
+     * Signed sum of amounts (positive for income, negative for expenses)
+     */
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    @Builder.Default
+    private Long transactionCount = 0L;
+
+    @Override
+    public String toString() {
+        return "TransactionMonthlyRollup{" +
+                "id=" + id +
+                ", totalAmount=" + totalAmount +
+                ", transactionCount=" + transactionCount +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.expensetracker.entity;
 
+import com.expensetracker.security.TokenHasher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "user_sessions", indexes = {
-    @Index(name = "idx_user_sessions_token", columnList = "jwt_token", unique = true),
+    @Index(name = "idx_user_sessions_token_hash", columnList = "token_hash", unique = true),
     @Index(name = "idx_user_sessions_user_active", columnList = "user_id, active")
 })
 @Data
@@ -40,9 +41,15 @@ public class UserSession {
 
     @NotBlank(message = "JWT token is required")
     @Size(max = 500, message = "JWT token must not exceed 500 characters")
-    @Column(name = "jwt_token", nullable = false, unique = true, length = 500)
+    @Column(name = "jwt_token", nullable = false, length = 500)
     private String jwtToken;
 
+    /**
+     * SHA-256 digest of jwtToken; set automatically before insert/update
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
     @NotNull(message = "Expiration date is required")
     @Future(message = "Expiration date must be in the future")
     @Column(name = "expires_at", nullable = false)
@@ -80,6 +87,17 @@ public class UserSession {
         return active && !isExpired();
     }
 
+    /**
+     * Keeps tokenHash in sync with jwtToken
+     */
+    @PrePersist
+    @PreUpdate
+    void computeTokenHash() {
+        if (jwtToken != null) {
+            this.tokenHash = TokenHasher.sha256(jwtToken);
+        }
+    }
+
     /**
      * Invalidates the session by setting active to false
      */
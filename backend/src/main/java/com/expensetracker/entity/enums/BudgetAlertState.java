@@ -0,0 +1,75 @@
+package com.expensetracker.entity.enums;
+
+import com.expensetracker.entity.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Enum representing how close a budget is to its limit
+ * Persisted on the budget so "hot" budgets can be found through an index
+ */
+public enum BudgetAlertState {
+    /**
+     * Below the alert threshold, or alerts disabled
+     */
+    OK,
+
+    /**
+     * At or above the alert threshold, within the limit
+     */
+    THRESHOLD,
+
+    /**
+     * Spent amount is above the limit
+     */
+    EXCEEDED;
+
+    /**
+     * Computes the state of a budget
+     * Must agree with the CASE expression in BudgetRepository.applySpentDelta
+     * @param spentAmount amount spent
+     * @param limitAmount budget limit
+     * @param alertThreshold threshold percentage (0-100)
+     * @param alertEnabled whether alerts are enabled
+     * @return alert state
+     */
+    public static BudgetAlertState of(
+            BigDecimal spentAmount,
+            BigDecimal limitAmount,
+            BigDecimal alertThreshold,
+            boolean alertEnabled) {
+
+        if (!alertEnabled || spentAmount == null || limitAmount == null || alertThreshold == null) {
+            return OK;
+        }
+        return of(Money.toMinorUnits(spentAmount), Money.toMinorUnits(limitAmount),
+                Money.toMinorUnits(alertThreshold), true);
+    }
+
+    /**
+     * Computes the state of a budget from fixed-point values, without allocating
+     * @param spentMinor amount spent in hundredths
+     * @param limitMinor budget limit in hundredths
+     * @param thresholdBasisPoints threshold in hundredths of a percent (8000 = 80%)
+     * @param alertEnabled whether alerts are enabled
+     * @return alert state
+     */
+    public static BudgetAlertState of(
+            long spentMinor,
+            long limitMinor,
+            long thresholdBasisPoints,
+            boolean alertEnabled) {
+
+        if (!alertEnabled) {
+            return OK;
+        }
+        if (spentMinor > limitMinor) {
+            return EXCEEDED;
+        }
+        // spent * 100 >= limit * threshold, scaled to hundredths on both sides
+        if (Math.multiplyExact(spentMinor, 10_000L) >= Math.multiplyExact(limitMinor, thresholdBasisPoints)) {
+            return THRESHOLD;
+        }
+        return OK;
+    }
+}
@@ -0,0 +1,46 @@
+package com.expensetracker.entity.listener;
+
+import com.expensetracker.entity.Category;
+import com.expensetracker.service.CategoryCacheService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener that evicts a user's cached categories whenever one of them is written
+ * Evicts immediately and again when the surrounding transaction completes, so a
+ * concurrent reader cannot keep a copy loaded before the write became visible.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+public class CategoryCacheEvictionListener {
+
+    private final ObjectProvider<CategoryCacheService> categoryCacheService;
+
+    public CategoryCacheEvictionListener(ObjectProvider<CategoryCacheService> categoryCacheService) {
+        this.categoryCacheService = categoryCacheService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryWrite(Category category) {
+        if (category.getUser() == null) {
+            return;
+        }
+        Long userId = category.getUser().getId();
+        categoryCacheService.ifAvailable(cache -> {
+            cache.evictUser(userId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.evictUser(userId);
+                    }
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.expensetracker.event;
+
+import com.expensetracker.entity.enums.BudgetAlertState;
+import lombok.Value;
+
+/**
+ * Published once per budget alert state transition
+ * Emitted by BudgetAlertEvaluator after the transition has been claimed
+ */
+@Value
+public class BudgetAlertEvent {
+
+    Long budgetId;
+    Long userId;
+    Long categoryId;
+    Integer year;
+    Integer month;
+    BudgetAlertState previousState;
+    BudgetAlertState currentState;
+}
@@ -0,0 +1,53 @@
+package com.expensetracker.event;
+
+import com.expensetracker.dto.response.TransactionResponseDTO;
+import com.expensetracker.entity.Money;
+import com.expensetracker.entity.enums.TransactionType;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published by TransactionServiceImpl for every transaction write
+ * Delivered to stream subscribers only after the writing transaction commits
+ */
+@Value
+public class TransactionChangeEvent {
+
+    ChangeType changeType;
+    Long userId;
+
+    /**
+     * ID of the changed transaction; null for batch creates
+     */
+    Long transactionId;
+
+    /**
+     * Transaction after the change; null for deletes and batch creates
+     */
+    TransactionResponseDTO transaction;
+
+    /**
+     * Signed amounts to add to per-day totals, so open dashboards can update
+     * their windows without re-querying /summary/totals
+     */
+    List<TotalsDelta> totalsDeltas;
+
+    public enum ChangeType {
+        CREATED,
+        BATCH_CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Change to the total of one transaction type on one day
+     */
+    @Value
+    public static class TotalsDelta {
+        LocalDate date;
+        TransactionType transactionType;
+        Money amount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.expensetracker.exception;
+
+/**
+ * Exception thrown when a write is based on a stale version of a resource
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,11 +1,18 @@
 package com.expensetracker.repository;
 
+import com.expensetracker.dto.response.BudgetStatusDTO;
 import com.expensetracker.entity.Budget;
+import com.expensetracker.entity.enums.BudgetAlertState;
+import com.expensetracker.event.BudgetAlertEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +22,21 @@ import java.util.Optional;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
+    /**
+     * Spent amount after applying :delta, floored at zero
+     */
+    String NEW_SPENT = "(CASE WHEN b.spentAmount + :delta < 0 THEN 0 ELSE b.spentAmount + :delta END)";
+
+    /**
+     * Alert state for NEW_SPENT; must agree with BudgetAlertState.of
+     */
+    String NEW_ALERT_STATE = "CASE " +
+            "WHEN b.alertEnabled = false THEN com.expensetracker.entity.enums.BudgetAlertState.OK " +
+            "WHEN " + NEW_SPENT + " > b.limitAmount THEN com.expensetracker.entity.enums.BudgetAlertState.EXCEEDED " +
+            "WHEN " + NEW_SPENT + " * 100 >= b.limitAmount * b.alertThreshold " +
+            "THEN com.expensetracker.entity.enums.BudgetAlertState.THRESHOLD " +
+            "ELSE com.expensetracker.entity.enums.BudgetAlertState.OK END";
+
     /**
      * Find budget by ID and user ID
      * @param id the budget ID
@@ -46,6 +68,28 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
      */
     List<Budget> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year);
 
+    /**
+     * Status of all active budgets of a user in a period, with their categories, in one query
+     * Served by idx_budgets_user_period
+     * @param userId the user's ID
+     * @param year the year
+     * @param month the month
+     * @return budget statuses ordered by category name
+     */
+    @Query("SELECT new com.expensetracker.dto.response.BudgetStatusDTO(" +
+           "b.id, c.id, c.name, c.color, c.icon, b.limitAmount, b.spentAmount, b.alertThreshold, b.alertState) " +
+           "FROM Budget b JOIN b.category c " +
+           "WHERE b.user.id = :userId " +
+           "AND b.year = :year " +
+           "AND b.month = :month " +
+           "AND b.active = true " +
+           "ORDER BY c.name ASC")
+    List<BudgetStatusDTO> findStatusByUserAndPeriod(
+            @Param("userId") Long userId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
     /**
      * Find budget by user, category, month and year
      * @param userId the user's ID
@@ -77,15 +121,136 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     );
 
     /**
-     * Find budgets that have reached alert threshold
+     * Find budgets that have reached alert threshold (THRESHOLD or EXCEEDED)
+     * Served by the partial index idx_budgets_alert_hot
      * @param userId the user's ID
      * @return list of budgets
      */
     @Query("SELECT b FROM Budget b " +
            "WHERE b.user.id = :userId " +
            "AND b.active = true " +
-           "AND b.alertEnabled = true " +
-           "AND (b.spentAmount / b.limitAmount * 100) >= b.alertThreshold")
+           "AND b.alertState <> com.expensetracker.entity.enums.BudgetAlertState.OK")
     List<Budget> findBudgetsReachedAlertThreshold(@Param("userId") Long userId);
-}
 
+    /**
+     * Find alert state changes that have not been emitted yet
+     * Served by the partial index idx_budgets_alert_pending
+     * @param pageable batch size
+     * @return pending transitions, oldest budget first
+     */
+    @Query("SELECT new com.expensetracker.event.BudgetAlertEvent(" +
+           "b.id, b.user.id, b.category.id, b.year, b.month, b.alertNotifiedState, b.alertState) " +
+           "FROM Budget b " +
+           "WHERE b.alertState <> b.alertNotifiedState " +
+           "ORDER BY b.id")
+    List<BudgetAlertEvent> findPendingAlertTransitions(Pageable pageable);
+
+    /**
+     * Claim a pending transition; only the caller that gets 1 back may emit it
+     * @param budgetId the budget ID
+     * @param previousState state last emitted
+     * @param currentState state to mark as emitted
+     * @return 1 if claimed, 0 if another evaluator claimed it or the state moved on
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Budget b SET b.alertNotifiedState = :currentState, b.version = b.version + 1 " +
+           "WHERE b.id = :budgetId " +
+           "AND b.alertNotifiedState = :previousState " +
+           "AND b.alertState = :currentState")
+    int markAlertNotified(
+            @Param("budgetId") Long budgetId,
+            @Param("previousState") BudgetAlertState previousState,
+            @Param("currentState") BudgetAlertState currentState
+    );
+
+    /**
+     * Atomically add a signed delta to the spent amount of a budget, floored at zero,
+     * and recompute its alert state in the same statement
+     * @param userId the user's ID
+     * @param categoryId the category ID
+     * @param month the month
+     * @param year the year
+     * @param delta signed amount to add (positive for new spend)
+     * @return number of budgets updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE Budget b " +
+           "SET b.spentAmount = " + NEW_SPENT + ", " +
+           "b.alertState = " + NEW_ALERT_STATE + ", " +
+           "b.version = b.version + 1 " +
+           "WHERE b.user.id = :userId " +
+           "AND b.category.id = :categoryId " +
+           "AND b.month = :month " +
+           "AND b.year = :year")
+    int applySpentDelta(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("month") Integer month,
+            @Param("year") Integer year,
+            @Param("delta") BigDecimal delta
+    );
+
+    /**
+     * Lowest and highest user ID owning a budget
+     * @return single row [minUserId, maxUserId], both null when there are no budgets
+     */
+    @Query("SELECT MIN(b.user.id), MAX(b.user.id) FROM Budget b")
+    List<Object[]> findBudgetUserIdRange();
+
+    /**
+     * Lock the budgets of a user ID range before recomputing them
+     * Writers applying spent deltas wait for the recompute, so none of their deltas
+     * can be overwritten by a sum computed before they committed
+     * @param fromUserId first user ID (inclusive)
+     * @param toUserId last user ID (inclusive)
+     * @return locked budget IDs
+     */
+    @Query(value = "SELECT id FROM budgets WHERE user_id BETWEEN :fromUserId AND :toUserId ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockBudgetsForUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    /**
+     * Rebuild spent_amount and alert_state for all budgets of a user ID range in one statement
+     * Sums active expenses per (user, category, year, month); budgets without expenses
+     * drop to zero. Only rows whose spent amount changes are written.
+     * @param fromUserId first user ID (inclusive)
+     * @param toUserId last user ID (inclusive)
+     * @return number of budgets corrected
+     */
+    @Modifying
+    @Query(value = "UPDATE budgets b " +
+            "SET spent_amount = src.spent, " +
+            "alert_state = CASE " +
+            "WHEN b.alert_enabled = false THEN 'OK' " +
+            "WHEN src.spent > b.limit_amount THEN 'EXCEEDED' " +
+            "WHEN src.spent * 100 >= b.limit_amount * b.alert_threshold THEN 'THRESHOLD' " +
+            "ELSE 'OK' END, " +
+            "version = b.version + 1 " +
+            "FROM (" +
+            "SELECT bb.id, COALESCE(agg.spent, 0) AS spent " +
+            "FROM budgets bb " +
+            "LEFT JOIN (" +
+            "SELECT e.user_id, e.category_id, e.period_year, e.period_month, SUM(e.spend) AS spent " +
+            "FROM (" +
+            "SELECT t.user_id, t.category_id, " +
+            "CAST(EXTRACT(YEAR FROM t.transaction_date) AS INTEGER) AS period_year, " +
+            "CAST(EXTRACT(MONTH FROM t.transaction_date) AS INTEGER) AS period_month, " +
+            "ABS(t.amount) AS spend " +
+            "FROM transactions t " +
+            "WHERE t.user_id BETWEEN :fromUserId AND :toUserId " +
+            "AND t.transaction_type = 'EXPENSE' " +
+            "AND t.active = true" +
+            ") e " +
+            "GROUP BY e.user_id, e.category_id, e.period_year, e.period_month" +
+            ") agg ON agg.user_id = bb.user_id " +
+            "AND agg.category_id = bb.category_id " +
+            "AND agg.period_year = bb.year " +
+            "AND agg.period_month = bb.month " +
+            "WHERE bb.user_id BETWEEN :fromUserId AND :toUserId" +
+            ") src " +
+            "WHERE b.id = src.id " +
+            "AND b.spent_amount IS DISTINCT FROM src.spent",
+            nativeQuery = true)
+    int recomputeSpentAmounts(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
@@ -0,0 +1,108 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.entity.IdempotencyKey;
+import com.expensetracker.entity.IdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for IdempotencyKey entity
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKeyId> {
+
+    /**
+     * Find the row for a user's key
+     * @param userId the user's ID
+     * @param keyHash SHA-256 digest of the Idempotency-Key
+     * @return Optional containing the row if present
+     */
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.id.userId = :userId AND k.id.keyHash = :keyHash")
+    Optional<IdempotencyKey> findByKey(@Param("userId") Long userId, @Param("keyHash") byte[] keyHash);
+
+    /**
+     * Claim a key by inserting an in-flight row
+     * Concurrent claims of the same key serialize on the primary key; exactly one inserts
+     * @return 1 if the key was claimed, 0 if a row already exists
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, key_hash, request_hash, created_at, expires_at) " +
+            "VALUES (:userId, :keyHash, :requestHash, :now, :expiresAt) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertClaim(@Param("userId") Long userId,
+                    @Param("keyHash") byte[] keyHash,
+                    @Param("requestHash") byte[] requestHash,
+                    @Param("now") LocalDateTime now,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Store the response of a claimed key and extend its lifetime to the replay TTL
+     * @return number of rows updated (0 if the claim was lost)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.responseStatus = :status, k.responseBody = :body, k.expiresAt = :expiresAt " +
+           "WHERE k.id.userId = :userId AND k.id.keyHash = :keyHash AND k.responseStatus IS NULL")
+    int complete(@Param("userId") Long userId,
+                 @Param("keyHash") byte[] keyHash,
+                 @Param("status") Integer status,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Extend the lease of an in-flight claim while its request is still running
+     * @return number of rows updated (0 if the claim was completed, released or lost)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.expiresAt = :expiresAt " +
+           "WHERE k.id.userId = :userId AND k.id.keyHash = :keyHash AND k.responseStatus IS NULL")
+    int renewClaim(@Param("userId") Long userId,
+                   @Param("keyHash") byte[] keyHash,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Release an in-flight claim so the key can be used again
+     * @return number of rows deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k " +
+           "WHERE k.id.userId = :userId AND k.id.keyHash = :keyHash AND k.responseStatus IS NULL")
+    int release(@Param("userId") Long userId, @Param("keyHash") byte[] keyHash);
+
+    /**
+     * Delete a single key if it has expired, so it can be claimed again
+     * @return number of rows deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k " +
+           "WHERE k.id.userId = :userId AND k.id.keyHash = :keyHash AND k.expiresAt < :now")
+    int deleteIfExpired(@Param("userId") Long userId,
+                        @Param("keyHash") byte[] keyHash,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Delete one batch of expired keys
+     * Walks idx_idempotency_keys_expires; SKIP LOCKED lets concurrent purgers take disjoint rows
+     * @param now current timestamp
+     * @param batchSize maximum rows to delete
+     * @return number of keys deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE (user_id, key_hash) IN (" +
+            "SELECT user_id, key_hash FROM idempotency_keys WHERE expires_at < :now " +
+            "ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,46 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.entity.TransactionMonthlyRollup;
+import com.expensetracker.entity.TransactionMonthlyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository for TransactionMonthlyRollup entity
+ */
+@Repository
+public interface TransactionMonthlyRollupRepository
+        extends JpaRepository<TransactionMonthlyRollup, TransactionMonthlyRollupId>,
+        TransactionMonthlyRollupUpsertRepository {
+
+    /**
+     * Sum of expenses per category for a user over an inclusive range of whole months
+     * @param userId the user's ID
+     * @param fromYear first year of the range
+     * @param fromMonth first month of the range
+     * @param toYear last year of the range
+     * @param toMonth last month of the range
+     * @return list of Object arrays [categoryId, categoryName, signedTotalAmount]
+     */
+    @Query("SELECT c.id, c.name, SUM(r.totalAmount) " +
+           "FROM TransactionMonthlyRollup r " +
+           "JOIN Category c ON c.id = r.id.categoryId " +
+           "WHERE r.id.userId = :userId " +
+           "AND r.id.transactionType = 'EXPENSE' " +
+           "AND r.id.year BETWEEN :fromYear AND :toYear " +
+           "AND (r.id.year > :fromYear OR r.id.month >= :fromMonth) " +
+           "AND (r.id.year < :toYear OR r.id.month <= :toMonth) " +
+           "GROUP BY c.id, c.name")
+    List<Object[]> sumExpensesByCategoryAndMonthRange(
+            @Param("userId") Long userId,
+            @Param("fromYear") Integer fromYear,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toYear") Integer toYear,
+            @Param("toMonth") Integer toMonth
+    );
+}
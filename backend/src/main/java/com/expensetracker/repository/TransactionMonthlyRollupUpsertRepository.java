@@ -0,0 +1,20 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.entity.TransactionMonthlyRollupId;
+
+import java.math.BigDecimal;
+
+/**
+ * Custom fragment of TransactionMonthlyRollupRepository for the single-statement bucket upsert
+ */
+public interface TransactionMonthlyRollupUpsertRepository {
+
+    /**
+     * Atomically adds a delta to a rollup bucket, creating the bucket if it does not exist
+     * Safe against concurrent first writers to the same bucket
+     * @param bucket the bucket key
+     * @param amountDelta signed amount to add
+     * @param countDelta number of transactions to add (may be negative)
+     */
+    void upsertDelta(TransactionMonthlyRollupId bucket, BigDecimal amountDelta, long countDelta);
+}
@@ -0,0 +1,74 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.entity.TransactionMonthlyRollupId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.math.BigDecimal;
+
+/**
+ * Native implementation of the rollup bucket upsert
+ *
+ * PostgreSQL uses INSERT ... ON CONFLICT DO UPDATE, which takes the row lock on the
+ * existing bucket or inserts it in one statement, so two first writers never collide
+ * on the primary key. Databases without ON CONFLICT DO UPDATE (the H2 test database)
+ * get the equivalent standard MERGE.
+ */
+public class TransactionMonthlyRollupUpsertRepositoryImpl implements TransactionMonthlyRollupUpsertRepository {
+
+    private static final String POSTGRESQL_UPSERT =
+            "INSERT INTO transaction_monthly_rollup " +
+            "(user_id, category_id, year, month, transaction_type, total_amount, transaction_count) " +
+            "VALUES (:userId, :categoryId, :year, :month, :transactionType, :amountDelta, :countDelta) " +
+            "ON CONFLICT (user_id, category_id, year, month, transaction_type) DO UPDATE " +
+            "SET total_amount = transaction_monthly_rollup.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = transaction_monthly_rollup.transaction_count + EXCLUDED.transaction_count";
+
+    private static final String STANDARD_MERGE =
+            "MERGE INTO transaction_monthly_rollup r " +
+            "USING (SELECT CAST(:userId AS BIGINT) AS user_id, CAST(:categoryId AS BIGINT) AS category_id, " +
+            "CAST(:year AS INT) AS year, CAST(:month AS INT) AS month, " +
+            "CAST(:transactionType AS VARCHAR(20)) AS transaction_type, " +
+            "CAST(:amountDelta AS DECIMAL(14,2)) AS total_amount, CAST(:countDelta AS BIGINT) AS transaction_count) s " +
+            "ON (r.user_id = s.user_id AND r.category_id = s.category_id AND r.year = s.year " +
+            "AND r.month = s.month AND r.transaction_type = s.transaction_type) " +
+            "WHEN MATCHED THEN UPDATE SET total_amount = r.total_amount + s.total_amount, " +
+            "transaction_count = r.transaction_count + s.transaction_count " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(user_id, category_id, year, month, transaction_type, total_amount, transaction_count) " +
+            "VALUES (s.user_id, s.category_id, s.year, s.month, s.transaction_type, s.total_amount, s.transaction_count)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String upsertSql;
+
+    @Override
+    public void upsertDelta(TransactionMonthlyRollupId bucket, BigDecimal amountDelta, long countDelta) {
+        Query query = entityManager.createNativeQuery(upsertSql());
+        query.setParameter("userId", bucket.getUserId());
+        query.setParameter("categoryId", bucket.getCategoryId());
+        query.setParameter("year", bucket.getYear());
+        query.setParameter("month", bucket.getMonth());
+        query.setParameter("transactionType", bucket.getTransactionType().name());
+        query.setParameter("amountDelta", amountDelta);
+        query.setParameter("countDelta", countDelta);
+        query.executeUpdate();
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            boolean postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            sql = postgres ? POSTGRESQL_UPSERT : STANDARD_MERGE;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
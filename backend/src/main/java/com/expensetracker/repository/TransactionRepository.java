@@ -1,11 +1,17 @@
 package com.expensetracker.repository;
 
+import com.expensetracker.dto.response.TransactionExportDTO;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.Transaction;
 import com.expensetracker.entity.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,13 +19,23 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Transaction entity
  * Main repository for the ET-001 ticket
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionSearchRepository {
+
+    /**
+     * Shared SELECT clause for TransactionSummaryDTO constructor projections
+     */
+    String SUMMARY_SELECT = "SELECT new com.expensetracker.dto.response.TransactionSummaryDTO(" +
+           "t.id, t.amount, t.description, t.transactionDate, t.transactionType, " +
+           "c.id, c.name, c.color, c.icon, ABS(t.amount)) " +
+           "FROM Transaction t " +
+           "JOIN t.category c ";
 
     // ========== Basic Queries ==========
 
@@ -47,6 +63,234 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      */
     Page<Transaction> findByUserIdAndActiveTrue(Long userId, Pageable pageable);
 
+    // ========== Summary Projection Queries ==========
+    // Select exactly the TransactionSummaryDTO columns in one JOIN against categories,
+    // so list pages run a single statement and never hydrate managed entities
+
+    /**
+     * Find active transaction summaries for a user (paginated)
+     * @param userId the user's ID
+     * @param pageable pagination information
+     * @return page of transaction summaries
+     */
+    @Query(value = SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true",
+           countQuery = "SELECT COUNT(t) FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true")
+    Page<TransactionSummaryDTO> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find active transaction summaries by user and date range (paginated)
+     * @param userId the user's ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @param pageable pagination information
+     * @return page of transaction summaries
+     */
+    @Query(value = SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate",
+           countQuery = "SELECT COUNT(t) FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    Page<TransactionSummaryDTO> findSummariesByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    /**
+     * Find transaction summaries by user and category (paginated)
+     * @param userId the user's ID
+     * @param categoryId the category ID
+     * @param pageable pagination information
+     * @return page of transaction summaries
+     */
+    @Query(value = SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND c.id = :categoryId",
+           countQuery = "SELECT COUNT(t) FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND t.category.id = :categoryId")
+    Page<TransactionSummaryDTO> findSummariesByUserIdAndCategoryId(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
+
+    /**
+     * Find the most recent active transaction summaries for a user (no count query)
+     * @param userId the user's ID
+     * @param pageable page size (use for limiting)
+     * @return list of recent transaction summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "ORDER BY t.transactionDate DESC, t.createdAt DESC")
+    List<TransactionSummaryDTO> findRecentSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find active transaction summaries by ID for one user (order not preserved)
+     * @param userId the user's ID
+     * @param ids transaction IDs
+     * @return list of transaction summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.id IN :ids")
+    List<TransactionSummaryDTO> findSummariesByUserIdAndIdIn(
+            @Param("userId") Long userId,
+            @Param("ids") List<Long> ids
+    );
+
+    // ========== Full-Text Search (PostgreSQL only, see V14-V16) ==========
+
+    /**
+     * Find IDs of active transactions matching a text search, best match first
+     * Words are matched on search_vector under the Spanish and English configurations
+     * (websearch syntax: quotes, OR, -word); the pattern also matches substrings through
+     * the trigram indexes. Substring-only hits rank 0 and follow the word matches.
+     * Every branch is served by a (user_id, ...) GIN index, so cost follows the user's
+     * matches rather than the table size
+     * @param userId the user's ID
+     * @param query search text
+     * @param pattern ILIKE pattern of the same text (see TransactionSearchRepository.containsPattern)
+     * @param pageable page number and size
+     * @return page of transaction IDs in rank order
+     */
+    @Query(value = "SELECT t.id FROM transactions t " +
+           "CROSS JOIN (SELECT websearch_to_tsquery('spanish', :query) " +
+           "|| websearch_to_tsquery('english', :query) AS q) s " +
+           "WHERE t.user_id = :userId " +
+           "AND t.active = true " +
+           "AND (t.search_vector @@ s.q " +
+           "OR t.description ILIKE :pattern " +
+           "OR t.notes ILIKE :pattern) " +
+           "ORDER BY ts_rank_cd(t.search_vector, s.q) DESC, t.transaction_date DESC, t.id DESC",
+           countQuery = "SELECT COUNT(*) FROM transactions t " +
+           "CROSS JOIN (SELECT websearch_to_tsquery('spanish', :query) " +
+           "|| websearch_to_tsquery('english', :query) AS q) s " +
+           "WHERE t.user_id = :userId " +
+           "AND t.active = true " +
+           "AND (t.search_vector @@ s.q " +
+           "OR t.description ILIKE :pattern " +
+           "OR t.notes ILIKE :pattern)",
+           nativeQuery = true)
+    Page<Long> searchIdsByText(
+            @Param("userId") Long userId,
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            Pageable pageable
+    );
+
+    // ========== Keyset (Cursor) Queries ==========
+
+    /**
+     * Find the next slice of active transaction summaries after a (date, id) cursor
+     * The row-value comparison is a range bound on idx_transactions_user_date_id_active,
+     * so every page starts at the cursor; no count query is issued
+     * @param userId the user's ID
+     * @param cursorDate transaction date of the last row already returned
+     * @param cursorId ID of the last row already returned
+     * @param pageable page size (page number must be 0)
+     * @return slice of transaction summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "AND (t.transactionDate, t.id) < (:cursorDate, :cursorId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Slice<TransactionSummaryDTO> findActiveAfterCursor(
+            @Param("userId") Long userId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * Find the next slice of active transaction summaries in a date range after a (date, id) cursor
+     * @param userId the user's ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @param cursorDate transaction date of the last row already returned
+     * @param cursorId ID of the last row already returned
+     * @param pageable page size (page number must be 0)
+     * @return slice of transaction summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND (t.transactionDate, t.id) < (:cursorDate, :cursorId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Slice<TransactionSummaryDTO> findActiveByDateRangeAfterCursor(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * Find the next slice of active transaction summaries in a category after a (date, id) cursor
+     * @param userId the user's ID
+     * @param categoryId the category ID
+     * @param cursorDate transaction date of the last row already returned
+     * @param cursorId ID of the last row already returned
+     * @param pageable page size (page number must be 0)
+     * @return slice of transaction summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE t.user.id = :userId " +
+           "AND c.id = :categoryId " +
+           "AND t.active = true " +
+           "AND (t.transactionDate, t.id) < (:cursorDate, :cursorId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Slice<TransactionSummaryDTO> findActiveByCategoryAfterCursor(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // ========== Export Queries ==========
+
+    /**
+     * Stream active transactions for export, oldest first
+     * Backed by a forward-only JDBC cursor; must be consumed inside a transaction
+     * and closed after use
+     * @param userId the user's ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return stream of export rows
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.expensetracker.dto.response.TransactionExportDTO(" +
+           "t.id, t.transactionDate, t.transactionType, t.amount, t.description, " +
+           "c.name, t.paymentMethod, t.notes) " +
+           "FROM Transaction t " +
+           "JOIN t.category c " +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.transactionDate ASC, t.id ASC")
+    Stream<TransactionExportDTO> streamForExport(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     // ========== Date Range Queries ==========
 
     /**
@@ -158,6 +402,19 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * Signed daily totals per transaction type over a user's whole history
+     * Loads the in-memory daily ledger in one pass over idx_transactions_user_date_id_active
+     * @param userId the user's ID
+     * @return list of Object arrays [transactionDate, transactionType, signedTotalAmount]
+     */
+    @Query("SELECT t.transactionDate, t.transactionType, SUM(t.amount) " +
+           "FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND t.active = true " +
+           "GROUP BY t.transactionDate, t.transactionType")
+    List<Object[]> sumByDateAndType(@Param("userId") Long userId);
+
     /**
      * Calculate total expenses by category in a date range
      * @param userId the user's ID
@@ -202,6 +459,51 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * Get signed expense totals by category for a user in a date range
+     * Used to complement the monthly rollup for partial edge months
+     * @param userId the user's ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return list of Object arrays [categoryId, categoryName, signedTotalAmount]
+     */
+    @Query("SELECT c.id, c.name, SUM(t.amount) " +
+           "FROM Transaction t " +
+           "JOIN t.category c " +
+           "WHERE t.user.id = :userId " +
+           "AND t.transactionType = 'EXPENSE' " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND t.active = true " +
+           "GROUP BY c.id, c.name")
+    List<Object[]> sumExpensesByCategoryIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * Aggregate income, expenses and transaction count per category in a single scan
+     * Uses conditional aggregation so one grouped pass yields every dashboard figure
+     * @param userId the user's ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return list of Object arrays [categoryId, incomeTotal, signedExpenseTotal, transactionCount]
+     */
+    @Query("SELECT t.category.id, " +
+           "COALESCE(SUM(t.amount) FILTER (WHERE t.transactionType = 'INCOME'), 0), " +
+           "COALESCE(SUM(t.amount) FILTER (WHERE t.transactionType = 'EXPENSE'), 0), " +
+           "COUNT(t) " +
+           "FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND t.active = true " +
+           "GROUP BY t.category.id")
+    List<Object[]> aggregateByCategoryAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     // ========== Count Queries ==========
 
     /**
@@ -0,0 +1,31 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.dto.request.TransactionSearchCriteria;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Custom fragment of TransactionRepository for queries whose WHERE clause depends on the request
+ */
+public interface TransactionSearchRepository {
+
+    /**
+     * Find active transaction summaries matching any combination of filters, newest first
+     * @param userId the user's ID
+     * @param criteria filters; absent fields are ignored
+     * @param pageable page number and size (sort is fixed to transactionDate DESC, id DESC)
+     * @return page of transaction summaries
+     */
+    Page<TransactionSummaryDTO> search(Long userId, TransactionSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * ILIKE pattern matching the trimmed text anywhere, with LIKE wildcards in it taken literally
+     * @param text user input
+     * @return pattern for a LIKE/ILIKE with backslash as escape character
+     */
+    static String containsPattern(String text) {
+        String escaped = text.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
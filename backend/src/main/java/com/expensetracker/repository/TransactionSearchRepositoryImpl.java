@@ -0,0 +1,172 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.dto.request.TransactionSearchCriteria;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
+import com.expensetracker.entity.enums.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HQL-backed implementation of the transaction search
+ *
+ * The query is assembled from fixed fragments, one per filter present, so each
+ * combination of filters always yields the same HQL string. Values are always bound
+ * as parameters and IN lists are padded (hibernate.query.in_clause_parameter_padding),
+ * so Hibernate's query plan cache holds one entry per shape instead of one per request.
+ *
+ * Predicates are chosen to stay sargable on the existing indexes:
+ * - user_id + active = true + ORDER BY transaction_date DESC, id DESC matches
+ *   idx_transactions_user_date_id_active (and idx_transactions_user_category_date_active
+ *   for a single category)
+ * - category ids use idx_transactions_user_category
+ * - the transaction type is written as a literal, so an EXPENSE search with a payment
+ *   method implies the predicate of the partial idx_transactions_user_payment
+ * - amount bounds are turned into a signed range on the raw column when the type is known
+ * - text is an ILIKE on description and notes, served by their trigram indexes (V16)
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    private static final String COUNT_SELECT = "SELECT COUNT(t) FROM Transaction t ";
+    private static final String ORDER_BY = "ORDER BY t.transactionDate DESC, t.id DESC";
+
+    private static final int START_DATE = 1;
+    private static final int END_DATE = 1 << 1;
+    private static final int CATEGORIES = 1 << 2;
+    private static final int PAYMENT_METHOD = 1 << 3;
+    private static final int MIN_AMOUNT = 1 << 4;
+    private static final int MAX_AMOUNT = 1 << 5;
+    private static final int TEXT = 1 << 6;
+    private static final int TYPE_SHIFT = 7;
+
+    /**
+     * WHERE clause per shape; at most 2^7 * 3 entries
+     */
+    private static final Map<Integer, String> WHERE_BY_SHAPE = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TransactionSummaryDTO> search(Long userId, TransactionSearchCriteria criteria, Pageable pageable) {
+        String where = WHERE_BY_SHAPE.computeIfAbsent(shapeOf(criteria), TransactionSearchRepositoryImpl::where);
+
+        TypedQuery<TransactionSummaryDTO> query = entityManager.createQuery(
+                TransactionRepository.SUMMARY_SELECT + where + ORDER_BY, TransactionSummaryDTO.class);
+        bind(query, userId, criteria);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<TransactionSummaryDTO> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(COUNT_SELECT + where, Long.class);
+            bind(count, userId, criteria);
+            return count.getSingleResult();
+        });
+    }
+
+    private static int shapeOf(TransactionSearchCriteria criteria) {
+        int shape = 0;
+        if (criteria.getStartDate() != null) {
+            shape |= START_DATE;
+        }
+        if (criteria.getEndDate() != null) {
+            shape |= END_DATE;
+        }
+        if (criteria.hasCategories()) {
+            shape |= CATEGORIES;
+        }
+        if (criteria.getPaymentMethod() != null) {
+            shape |= PAYMENT_METHOD;
+        }
+        if (criteria.getMinAmount() != null) {
+            shape |= MIN_AMOUNT;
+        }
+        if (criteria.getMaxAmount() != null) {
+            shape |= MAX_AMOUNT;
+        }
+        if (criteria.hasText()) {
+            shape |= TEXT;
+        }
+        if (criteria.getTransactionType() != null) {
+            shape |= (criteria.getTransactionType().ordinal() + 1) << TYPE_SHIFT;
+        }
+        return shape;
+    }
+
+    private static String where(int shape) {
+        StringBuilder where = new StringBuilder("WHERE t.user.id = :userId AND t.active = true ");
+        if ((shape & START_DATE) != 0) {
+            where.append("AND t.transactionDate >= :startDate ");
+        }
+        if ((shape & END_DATE) != 0) {
+            where.append("AND t.transactionDate <= :endDate ");
+        }
+        if ((shape & CATEGORIES) != 0) {
+            where.append("AND t.category.id IN :categoryIds ");
+        }
+
+        int typeCode = shape >>> TYPE_SHIFT;
+        TransactionType type = typeCode == 0 ? null : TransactionType.values()[typeCode - 1];
+        if (type != null) {
+            where.append("AND t.transactionType = '").append(type.name()).append("' ");
+        }
+        if ((shape & PAYMENT_METHOD) != 0) {
+            where.append("AND t.paymentMethod = :paymentMethod ");
+        }
+
+        // Amounts are signed by type; with a known type the bounds become a plain range on t.amount
+        String amount = type == null ? "ABS(t.amount)" : "t.amount";
+        boolean negative = type == TransactionType.EXPENSE;
+        if ((shape & MIN_AMOUNT) != 0) {
+            where.append("AND ").append(amount).append(negative ? " <= " : " >= ").append(":minAmount ");
+        }
+        if ((shape & MAX_AMOUNT) != 0) {
+            where.append("AND ").append(amount).append(negative ? " >= " : " <= ").append(":maxAmount ");
+        }
+
+        if ((shape & TEXT) != 0) {
+            where.append("AND (t.description ILIKE :text ESCAPE '\\' ")
+                    .append("OR t.notes ILIKE :text ESCAPE '\\') ");
+        }
+        return where.toString();
+    }
+
+    private static void bind(TypedQuery<?> query, Long userId, TransactionSearchCriteria criteria) {
+        query.setParameter("userId", userId);
+        if (criteria.getStartDate() != null) {
+            query.setParameter("startDate", criteria.getStartDate());
+        }
+        if (criteria.getEndDate() != null) {
+            query.setParameter("endDate", criteria.getEndDate());
+        }
+        if (criteria.hasCategories()) {
+            query.setParameter("categoryIds", criteria.getCategoryIds());
+        }
+        if (criteria.getPaymentMethod() != null) {
+            query.setParameter("paymentMethod", criteria.getPaymentMethod());
+        }
+        boolean negative = criteria.getTransactionType() == TransactionType.EXPENSE;
+        if (criteria.getMinAmount() != null) {
+            query.setParameter("minAmount", signed(criteria.getMinAmount(), negative));
+        }
+        if (criteria.getMaxAmount() != null) {
+            query.setParameter("maxAmount", signed(criteria.getMaxAmount(), negative));
+        }
+        if (criteria.hasText()) {
+            query.setParameter("text", TransactionSearchRepository.containsPattern(criteria.getText()));
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal amount, boolean negative) {
+        return negative ? amount.abs().negate() : amount.abs();
+    }
+}
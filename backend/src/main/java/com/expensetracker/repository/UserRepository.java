@@ -2,7 +2,11 @@ package com.expensetracker.repository;
 
 import com.expensetracker.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -46,5 +50,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return Optional containing the user if found and active
      */
     Optional<User> findByEmailAndActiveTrue(String email);
-}
 
+    /**
+     * Replace a user's password hash
+     * @param userId the user's ID
+     * @param passwordHash new BCrypt hash
+     * @return number of users updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.id = :userId")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("passwordHash") String passwordHash);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +32,14 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
      */
     Optional<UserSession> findByJwtTokenAndActiveTrue(String jwtToken);
 
+    /**
+     * Find active session by token digest
+     * Uses the fixed-width idx_user_sessions_token_hash index
+     * @param tokenHash SHA-256 digest of the JWT token
+     * @return Optional containing the session if found and active
+     */
+    Optional<UserSession> findByTokenHashAndActiveTrue(byte[] tokenHash);
+
     /**
      * Find all active sessions for a user
      * @param userId the user's ID
@@ -60,6 +69,35 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     @Query("DELETE FROM UserSession s WHERE s.expiresAt < :now")
     void deleteExpiredSessions(@Param("now") LocalDateTime now);
 
+    /**
+     * Delete one batch of expired active sessions
+     * Walks idx_sessions_expired; SKIP LOCKED lets concurrent reapers take disjoint rows
+     * @param now current timestamp
+     * @param batchSize maximum rows to delete
+     * @return number of sessions deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_sessions WHERE id IN (" +
+            "SELECT id FROM user_sessions WHERE active = true AND expires_at < :now " +
+            "ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteExpiredSessionsBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * Delete one batch of invalidated sessions
+     * Walks idx_sessions_inactive; SKIP LOCKED lets concurrent reapers take disjoint rows
+     * @param batchSize maximum rows to delete
+     * @return number of sessions deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_sessions WHERE id IN (" +
+            "SELECT id FROM user_sessions WHERE active = false " +
+            "ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteInactiveSessionsBatch(@Param("batchSize") int batchSize);
+
     /**
      * Invalidate all active sessions for a user
      * @param userId the user's ID
@@ -75,5 +113,14 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     @Modifying
     @Query("UPDATE UserSession s SET s.active = false WHERE s.jwtToken = :jwtToken")
     void invalidateSessionByToken(@Param("jwtToken") String jwtToken);
+
+    /**
+     * Invalidate session by token digest
+     * @param tokenHash SHA-256 digest of the JWT token
+     * @return number of sessions invalidated
+     */
+    @Modifying
+    @Query("UPDATE UserSession s SET s.active = false WHERE s.tokenHash = :tokenHash")
+    int invalidateSessionByTokenHash(@Param("tokenHash") byte[] tokenHash);
 }
 
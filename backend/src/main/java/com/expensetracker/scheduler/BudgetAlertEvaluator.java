@@ -0,0 +1,92 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.event.BudgetAlertEvent;
+import com.expensetracker.repository.BudgetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Emits budget alert state transitions exactly once
+ * alert_state is maintained on every write; alert_notified_state records what was
+ * last emitted. Pending rows (the two differ) are found through a partial index,
+ * and each one is claimed with a conditional UPDATE before its event is published,
+ * so concurrent evaluators on several nodes never emit the same transition twice.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.budgets.alerts.enabled", havingValue = "true", matchIfMissing = true)
+public class BudgetAlertEvaluator {
+
+    private final BudgetRepository budgetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Counter emittedCounter;
+
+    public BudgetAlertEvaluator(
+            BudgetRepository budgetRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.budgets.alerts.batch-size:500}") int batchSize) {
+
+        this.budgetRepository = budgetRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.emittedCounter = Counter.builder("budgets.alerts.emitted")
+                .description("Budget alert state transitions emitted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(
+            initialDelayString = "${app.budgets.alerts.initial-delay:PT30S}",
+            fixedDelayString = "${app.budgets.alerts.interval:PT30S}")
+    public void scheduledRun() {
+        evaluate();
+    }
+
+    /**
+     * Emits all pending transitions
+     * @return number of transitions emitted by this evaluator
+     */
+    public int evaluate() {
+        int emitted = 0;
+        List<BudgetAlertEvent> pending;
+
+        do {
+            pending = budgetRepository.findPendingAlertTransitions(PageRequest.of(0, batchSize));
+            int claimed = 0;
+
+            for (BudgetAlertEvent event : pending) {
+                int updated = budgetRepository.markAlertNotified(
+                        event.getBudgetId(), event.getPreviousState(), event.getCurrentState());
+                if (updated == 1) {
+                    log.info("Budget {} alert state {} -> {}",
+                            event.getBudgetId(), event.getPreviousState(), event.getCurrentState());
+                    eventPublisher.publishEvent(event);
+                    emittedCounter.increment();
+                    claimed++;
+                }
+            }
+            emitted += claimed;
+
+            // Stop when the batch was short, or when nothing in it could be claimed
+            // (another node is working through the same rows)
+            if (claimed == 0) {
+                break;
+            }
+        } while (pending.size() == batchSize);
+
+        return emitted;
+    }
+}
@@ -0,0 +1,30 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.service.BudgetRecomputeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional periodic rebuild of budget spent amounts
+ * Off by default; set app.budgets.recompute.cron (e.g. "0 0 3 * * *") to enable
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetRecomputeJob {
+
+    private final BudgetRecomputeService budgetRecomputeService;
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(cron = "${app.budgets.recompute.cron:-}")
+    public void scheduledRun() {
+        int corrected = budgetRecomputeService.recomputeAll();
+        if (corrected > 0) {
+            log.warn("Budget recompute corrected {} drifted budgets", corrected);
+        }
+    }
+}
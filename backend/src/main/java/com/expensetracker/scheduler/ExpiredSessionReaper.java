@@ -0,0 +1,132 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.repository.UserSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Deletes expired and invalidated sessions in bounded batches
+ * Each batch is its own short transaction, so locks and WAL stay small, and rows are
+ * claimed with FOR UPDATE SKIP LOCKED, so several nodes can run the job at once
+ * without blocking each other or deleting the same row twice.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.sessions.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredSessionReaper {
+
+    private final UserSessionRepository userSessionRepository;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+
+    private final Counter expiredCounter;
+    private final Counter inactiveCounter;
+    private final DistributionSummary perRunSummary;
+    private final Timer runTimer;
+
+    public ExpiredSessionReaper(
+            UserSessionRepository userSessionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.sessions.reaper.batch-size:1000}") int batchSize,
+            @Value("${app.sessions.reaper.pause:100ms}") Duration pause,
+            @Value("${app.sessions.reaper.max-batches:1000}") int maxBatches) {
+
+        this.userSessionRepository = userSessionRepository;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+
+        this.expiredCounter = Counter.builder("sessions.reaped")
+                .tag("reason", "expired")
+                .description("Expired sessions deleted by the reaper")
+                .register(meterRegistry);
+        this.inactiveCounter = Counter.builder("sessions.reaped")
+                .tag("reason", "inactive")
+                .description("Invalidated sessions deleted by the reaper")
+                .register(meterRegistry);
+        this.perRunSummary = DistributionSummary.builder("sessions.reaped.per.run")
+                .description("Sessions deleted per reaper run")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("sessions.reaper.duration")
+                .description("Duration of a reaper run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(
+            initialDelayString = "${app.sessions.reaper.initial-delay:PT1M}",
+            fixedDelayString = "${app.sessions.reaper.interval:PT5M}")
+    public void scheduledRun() {
+        runTimer.record(this::reap);
+    }
+
+    /**
+     * Runs one reaper pass over expired, then invalidated sessions
+     * @return total sessions deleted
+     */
+    public int reap() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = drain(() -> userSessionRepository.deleteExpiredSessionsBatch(now, batchSize), expiredCounter);
+        int inactive = drain(() -> userSessionRepository.deleteInactiveSessionsBatch(batchSize), inactiveCounter);
+
+        int total = expired + inactive;
+        perRunSummary.record(total);
+        if (total > 0) {
+            log.info("Session reaper deleted {} expired and {} inactive sessions", expired, inactive);
+        }
+        return total;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Deletes batches until one comes back short or the per-run cap is reached
+     */
+    private int drain(IntSupplier batch, Counter counter) {
+        int total = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            int deleted = batch.getAsInt();
+            counter.increment(deleted);
+            total += deleted;
+
+            if (deleted < batchSize || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sleeps between batches
+     * @return false if the thread was interrupted and the run should stop
+     */
+    private boolean pauseBetweenBatches() {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Session reaper interrupted, stopping run");
+            return false;
+        }
+    }
+}
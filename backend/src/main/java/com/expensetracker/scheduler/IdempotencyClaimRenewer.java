@@ -0,0 +1,24 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the claims of long-running idempotent requests from expiring mid-request
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyClaimRenewer {
+
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.claim-renew-interval:PT20S}")
+    public void scheduledRun() {
+        idempotencyService.renewClaims();
+    }
+}
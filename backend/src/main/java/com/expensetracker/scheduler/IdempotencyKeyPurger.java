@@ -0,0 +1,76 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired Idempotency-Key rows in bounded batches
+ * Same shape as ExpiredSessionReaper: one short transaction per batch and
+ * FOR UPDATE SKIP LOCKED, so several nodes can purge concurrently.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.idempotency.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyPurger {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter purgedCounter;
+
+    public IdempotencyKeyPurger(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.purge.batch-size:5000}") int batchSize,
+            @Value("${app.idempotency.purge.max-batches:200}") int maxBatches) {
+
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgedCounter = Counter.builder("idempotency.keys.purged")
+                .description("Expired idempotency keys deleted by the purger")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(
+            initialDelayString = "${app.idempotency.purge.initial-delay:PT2M}",
+            fixedDelayString = "${app.idempotency.purge.interval:PT10M}")
+    public void scheduledRun() {
+        purge();
+    }
+
+    /**
+     * Deletes expired keys until a batch comes back short or the per-run cap is reached
+     * @return total keys deleted
+     */
+    public int purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            int deleted = idempotencyKeyRepository.deleteExpiredBatch(now, batchSize);
+            purgedCounter.increment(deleted);
+            total += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Idempotency purger deleted {} expired keys", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,24 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.service.TransactionStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps idle transaction streams open through proxies and detects dropped clients
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionStreamHeartbeat {
+
+    private final TransactionStreamService transactionStreamService;
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval:PT25S}")
+    public void scheduledRun() {
+        transactionStreamService.sendHeartbeats();
+    }
+}
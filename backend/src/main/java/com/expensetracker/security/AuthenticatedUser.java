@@ -0,0 +1,31 @@
+package com.expensetracker.security;
+
+import com.expensetracker.entity.User;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight principal resolved from signed JWT claims
+ * Carries what request handling needs, so no user lookup happens before the service layer
+ */
+@Value
+public class AuthenticatedUser implements ExpiringEntry {
+
+    Long userId;
+    String username;
+    String currency;
+    LocalDateTime expiresAt;
+
+    /**
+     * Detached User carrying only the claim values, for services that take a User
+     * @return unmanaged user instance
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(username);
+        user.setCurrency(currency);
+        return user;
+    }
+}
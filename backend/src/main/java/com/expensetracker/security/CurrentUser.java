@@ -0,0 +1,35 @@
+package com.expensetracker.security;
+
+import com.expensetracker.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Resolves the user of the current request from the security context
+ */
+public final class CurrentUser {
+
+    private static final Long DEMO_USER_ID = 1L;
+
+    private CurrentUser() {
+    }
+
+    /**
+     * Current user, built from the JWT principal
+     * TEMPORARY: falls back to the demo user (ID=1) while authentication is not
+     * enforced (app.security.enforce-authentication=false)
+     * @return detached user carrying ID, username and currency
+     */
+    public static User get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUser();
+        }
+
+        User demoUser = new User();
+        demoUser.setId(DEMO_USER_ID);
+        demoUser.setEmail("demo@expensetracker.com");
+        demoUser.setUsername("demo");
+        return demoUser;
+    }
+}
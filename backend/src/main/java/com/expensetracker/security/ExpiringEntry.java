@@ -0,0 +1,14 @@
+package com.expensetracker.security;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cached value that must not outlive the credential it was derived from
+ */
+public interface ExpiringEntry {
+
+    /**
+     * @return instant after which the entry is no longer valid
+     */
+    LocalDateTime getExpiresAt();
+}
@@ -0,0 +1,61 @@
+package com.expensetracker.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.expensetracker.service.SessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying a Bearer token
+ * The principal is built from the token's claims, and the token is accepted only
+ * while its session is active, so logout and invalidation revoke it. Both checks
+ * are served from caches; the session row is read only on a session cache miss.
+ * Not a @Component, so it runs once inside the security chain and is not
+ * registered again as a servlet filter.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final SessionService sessionService;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = header.substring(BEARER_PREFIX.length()).trim();
+            jwtTokenProvider.resolve(token)
+                    .filter(principal -> hasActiveSession(token, principal))
+                    .ifPresent(principal -> SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, List.of())));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * A validly signed token still needs a live session owned by the same user
+     */
+    private boolean hasActiveSession(String token, AuthenticatedUser principal) {
+        return sessionService.validateSession(token)
+                .filter(session -> session.getUserId().equals(principal.getUserId()))
+                .isPresent();
+    }
+}
@@ -0,0 +1,127 @@
+package com.expensetracker.security;
+
+import com.expensetracker.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Issues and verifies HMAC-signed JWTs
+ * The user ID, username and currency travel as claims, and verified tokens are cached
+ * by digest so repeat requests skip signature verification and claim parsing.
+ */
+@Component
+@Slf4j
+public class JwtTokenProvider {
+
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_CURRENCY = "cur";
+
+    private final SecretKey signingKey;
+    private final long expirationMillis;
+    private final Cache<String, AuthenticatedUser> verifiedTokenCache;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration:86400000}") long expirationMillis,
+            Cache<String, AuthenticatedUser> verifiedTokenCache) {
+
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes(secret));
+        this.expirationMillis = expirationMillis;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Issue a token for a user
+     * @param user authenticated user
+     * @return signed compact JWT
+     */
+    public String generateToken(User user) {
+        Date issuedAt = new Date();
+
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_CURRENCY, user.getCurrency())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + expirationMillis))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Lifetime of issued tokens
+     * @return time from issue to expiry
+     */
+    public Duration getTokenLifetime() {
+        return Duration.ofMillis(expirationMillis);
+    }
+
+    /**
+     * Resolve the principal of a token, verifying it only on a cache miss
+     * @param token compact JWT
+     * @return principal, or empty if the token is malformed, forged or expired
+     */
+    public Optional<AuthenticatedUser> resolve(String token) {
+        String key = TokenHasher.toHex(TokenHasher.sha256(token));
+
+        AuthenticatedUser cached = verifiedTokenCache.getIfPresent(key);
+        if (cached != null) {
+            return cached.getExpiresAt().isAfter(LocalDateTime.now()) ? Optional.of(cached) : Optional.empty();
+        }
+
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(signingKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            if (userId == null) {
+                log.debug("Rejected token without user ID claim");
+                return Optional.empty();
+            }
+
+            AuthenticatedUser principal = new AuthenticatedUser(
+                    userId.longValue(),
+                    claims.getSubject(),
+                    claims.get(CLAIM_CURRENCY, String.class),
+                    LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()));
+
+            verifiedTokenCache.put(key, principal);
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Rejected token: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Secrets are expected in Base64; plain-text secrets are used as raw bytes
+     */
+    private static byte[] keyBytes(String secret) {
+        try {
+            return Decoders.BASE64.decode(secret);
+        } catch (DecodingException ex) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
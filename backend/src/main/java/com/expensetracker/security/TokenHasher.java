@@ -0,0 +1,40 @@
+package com.expensetracker.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 digests of JWT tokens
+ * Sessions are stored, indexed and cached by digest, never by the raw token
+ */
+public final class TokenHasher {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenHasher() {
+    }
+
+    /**
+     * Computes the SHA-256 digest of a token
+     * @param token raw token
+     * @return 32-byte digest
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Hex form of a digest, used as cache key
+     * @param digest token digest
+     * @return 64-character lowercase hex string
+     */
+    public static String toHex(byte[] digest) {
+        return HEX.formatHex(digest);
+    }
+}
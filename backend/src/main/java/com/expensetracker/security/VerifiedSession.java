@@ -0,0 +1,25 @@
+package com.expensetracker.security;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a session that passed validation
+ * Held in the session cache until the session expires or is invalidated
+ */
+@Value
+public class VerifiedSession implements ExpiringEntry {
+
+    Long sessionId;
+    Long userId;
+    LocalDateTime expiresAt;
+
+    /**
+     * Checks if the session has expired
+     * @return true if the session has expired
+     */
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.request.LoginRequestDTO;
+import com.expensetracker.dto.response.LoginResponseDTO;
+
+/**
+ * Service interface for authentication
+ */
+public interface AuthService {
+
+    /**
+     * Verify credentials, issue a JWT and record its session
+     * @param dto login data
+     * @param ipAddress client IP address (optional)
+     * @param userAgent client user agent (optional)
+     * @return issued token and principal details
+     * @throws com.expensetracker.exception.UnauthorizedException if the credentials are invalid
+     */
+    LoginResponseDTO login(LoginRequestDTO dto, String ipAddress, String userAgent);
+}
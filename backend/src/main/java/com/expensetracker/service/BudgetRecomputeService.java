@@ -0,0 +1,21 @@
+package com.expensetracker.service;
+
+/**
+ * Service interface for rebuilding budget spent amounts from transactions
+ * Repairs drift in budgets.spent_amount with set-based updates
+ */
+public interface BudgetRecomputeService {
+
+    /**
+     * Rebuild spent amounts for all budgets of one user
+     * @param userId user ID
+     * @return number of budgets corrected
+     */
+    int recomputeUser(Long userId);
+
+    /**
+     * Rebuild spent amounts for all budgets, one user ID range per transaction
+     * @return number of budgets corrected
+     */
+    int recomputeAll();
+}
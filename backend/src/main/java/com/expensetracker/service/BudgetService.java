@@ -0,0 +1,21 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.BudgetStatusDTO;
+import com.expensetracker.entity.User;
+
+import java.util.List;
+
+/**
+ * Service interface for Budget operations
+ */
+public interface BudgetService {
+
+    /**
+     * Get the status of all active budgets in a month
+     * @param user current user
+     * @param year the year
+     * @param month the month (1-12)
+     * @return budget statuses ordered by category name
+     */
+    List<BudgetStatusDTO> getBudgetStatus(User user, int year, int month);
+}
@@ -0,0 +1,43 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.Transaction;
+
+import java.util.Collection;
+
+/**
+ * Service interface for keeping Budget.spentAmount in sync with transaction writes
+ * Only expense transactions count towards a budget; income is ignored
+ */
+public interface BudgetTrackingService {
+
+    /**
+     * Add a transaction's spend to the budget of its category and month
+     * Must be called inside the same DB transaction as the write
+     * @param transaction active transaction
+     */
+    void recordTransaction(Transaction transaction);
+
+    /**
+     * Add the spend of many transactions, one update per touched budget
+     * Must be called inside the same DB transaction as the writes
+     * @param transactions active transactions
+     */
+    void recordTransactions(Collection<Transaction> transactions);
+
+    /**
+     * Remove a transaction's spend from the budget of its category and month
+     * Must be called before the transaction's amount, type, date or category change
+     * @param transaction active transaction
+     */
+    void reverseTransaction(Transaction transaction);
+
+    /**
+     * Move an edited transaction's spend from its previous budget to its current one
+     * Both deltas are applied in one pass in lock order, so concurrent edits between
+     * the same two budgets cannot deadlock
+     * Must be called inside the same DB transaction as the write
+     * @param previous detached copy of the transaction taken before the edit
+     * @param updated active transaction after the edit
+     */
+    void replaceTransaction(Transaction previous, Transaction updated);
+}
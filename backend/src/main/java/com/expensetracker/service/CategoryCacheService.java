@@ -0,0 +1,34 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.CategoryDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for the per-user category cache
+ * Serves category reads and ownership checks without a DB round-trip
+ */
+public interface CategoryCacheService {
+
+    /**
+     * Get all active categories for a user
+     * @param userId user ID
+     * @return list of active categories
+     */
+    List<CategoryDTO> getActiveCategories(Long userId);
+
+    /**
+     * Get a category owned by a user, active or not
+     * @param userId user ID
+     * @param categoryId category ID
+     * @return the category, or empty if it does not exist or belongs to another user
+     */
+    Optional<CategoryDTO> getCategory(Long userId, Long categoryId);
+
+    /**
+     * Drop a user's cached categories so the next read reloads them
+     * @param userId user ID
+     */
+    void evictUser(Long userId);
+}
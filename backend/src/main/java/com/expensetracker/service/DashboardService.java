@@ -0,0 +1,22 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.DashboardDTO;
+import com.expensetracker.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for dashboard aggregates
+ */
+public interface DashboardService {
+
+    /**
+     * Get totals, balance, expenses by category, transaction count and recent transactions
+     * @param user current user
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @param recentLimit number of recent transactions to include
+     * @return dashboard data
+     */
+    DashboardDTO getDashboard(User user, LocalDate startDate, LocalDate endDate, int recentLimit);
+}
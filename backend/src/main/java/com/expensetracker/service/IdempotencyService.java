@@ -0,0 +1,96 @@
+package com.expensetracker.service;
+
+import com.expensetracker.security.ExpiringEntry;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for Idempotency-Key handling
+ * A key is claimed before the request runs, then either completed with the
+ * response to replay or released so the client can try again.
+ */
+public interface IdempotencyService {
+
+    /**
+     * Claim a key for a request, or find the response it already produced
+     * @param userId the user's ID
+     * @param key raw Idempotency-Key header value
+     * @param requestHash SHA-256 digest of the request path and body
+     * @return ACQUIRED if the caller should run the request, otherwise what to answer instead
+     */
+    Claim claim(Long userId, String key, byte[] requestHash);
+
+    /**
+     * Store the response of a claimed key for replay
+     * @param userId the user's ID
+     * @param key raw Idempotency-Key header value
+     * @param requestHash SHA-256 digest the key was claimed with
+     * @param status HTTP status of the response
+     * @param body serialized response body
+     */
+    void complete(Long userId, String key, byte[] requestHash, int status, String body);
+
+    /**
+     * Release a claimed key after the request failed
+     * @param userId the user's ID
+     * @param key raw Idempotency-Key header value
+     */
+    void release(Long userId, String key);
+
+    /**
+     * Extend the lease of every claim whose request is still running on this node
+     * Called periodically, well within the claim timeout, so a slow request keeps its
+     * key; a node that dies stops renewing and its claims expire
+     */
+    void renewClaims();
+
+    /**
+     * Result of a claim
+     */
+    enum Outcome {
+        /** Key claimed; run the request */
+        ACQUIRED,
+        /** Key already completed with the same request; replay the stored response */
+        REPLAY,
+        /** Key claimed by a request that has not finished yet */
+        IN_PROGRESS,
+        /** Key already used with a different request */
+        MISMATCH
+    }
+
+    /**
+     * Response stored for a completed key
+     */
+    @Value
+    class StoredResponse implements ExpiringEntry {
+        byte[] requestHash;
+        int status;
+        String body;
+        LocalDateTime expiresAt;
+
+        /**
+         * Approximate heap footprint, used as cache weight
+         */
+        public int sizeInBytes() {
+            return 64 + requestHash.length + (body == null ? 0 : body.length());
+        }
+    }
+
+    /**
+     * Claim outcome, with the stored response when it is a replay
+     */
+    @Value
+    class Claim {
+        Outcome outcome;
+        StoredResponse response;
+
+        public static Claim of(Outcome outcome) {
+            return new Claim(outcome, null);
+        }
+
+        public static Claim replay(StoredResponse response) {
+            return new Claim(Outcome.REPLAY, response);
+        }
+    }
+}
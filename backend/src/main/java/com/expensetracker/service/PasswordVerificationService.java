@@ -0,0 +1,28 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.User;
+
+/**
+ * Service interface for password verification
+ * Runs BCrypt off the request threads on a bounded executor
+ */
+public interface PasswordVerificationService {
+
+    /**
+     * Check a raw password against the user's stored hash
+     * Rehashes to the configured cost on success when rehash-on-login is enabled
+     * @param user user with its password hash loaded
+     * @param rawPassword password as entered
+     * @return true if the password matches
+     * @throws com.expensetracker.exception.ServiceUnavailableException if the executor is saturated
+     */
+    boolean verify(User user, String rawPassword);
+
+    /**
+     * Spend the same BCrypt work as {@link #verify} when no account matches the login,
+     * so response time does not reveal whether an email is registered
+     * @param rawPassword password as entered
+     * @throws com.expensetracker.exception.ServiceUnavailableException if the executor is saturated
+     */
+    void verifyUnknownUser(String rawPassword);
+}
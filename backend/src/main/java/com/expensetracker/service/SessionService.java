@@ -0,0 +1,45 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.UserSession;
+import com.expensetracker.security.VerifiedSession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service interface for user session management
+ * Validates sessions through an in-memory cache in front of UserSessionRepository
+ */
+public interface SessionService {
+
+    /**
+     * Persist a new session for an issued token
+     * @param user session owner
+     * @param jwtToken issued JWT token
+     * @param expiresAt token expiry
+     * @param ipAddress client IP address (optional)
+     * @param userAgent client user agent (optional)
+     * @return saved session
+     */
+    UserSession createSession(User user, String jwtToken, LocalDateTime expiresAt, String ipAddress, String userAgent);
+
+    /**
+     * Validate a token against its session, using the cache when possible
+     * @param jwtToken JWT token
+     * @return the verified session, or empty if it is unknown, inactive or expired
+     */
+    Optional<VerifiedSession> validateSession(String jwtToken);
+
+    /**
+     * Invalidate a single session and evict it from the cache
+     * @param jwtToken JWT token
+     */
+    void invalidateSessionByToken(String jwtToken);
+
+    /**
+     * Invalidate all sessions of a user and evict them from the cache
+     * @param userId user ID
+     */
+    void invalidateAllUserSessions(Long userId);
+}
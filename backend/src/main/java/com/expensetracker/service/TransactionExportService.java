@@ -0,0 +1,28 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.request.TransactionExportFormat;
+import com.expensetracker.entity.User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface for exporting a user's transaction history
+ */
+public interface TransactionExportService {
+
+    /**
+     * Stream active transactions to an output stream, oldest first
+     * Rows are read through a forward-only cursor and written as they arrive,
+     * so memory use does not depend on the size of the history
+     * @param user current user
+     * @param startDate start date (inclusive), or null for no lower bound
+     * @param endDate end date (inclusive), or null for no upper bound
+     * @param format output format
+     * @param outputStream destination; flushed but not closed
+     * @throws IOException if writing to the destination fails
+     */
+    void exportTransactions(User user, LocalDate startDate, LocalDate endDate,
+                            TransactionExportFormat format, OutputStream outputStream) throws IOException;
+}
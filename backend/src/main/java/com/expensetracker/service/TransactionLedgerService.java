@@ -0,0 +1,30 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Service interface for the in-memory daily ledger
+ * Answers arbitrary date-range totals from per-user prefix sums held in memory,
+ * loaded on first use and kept current from committed transaction writes
+ */
+public interface TransactionLedgerService {
+
+    /**
+     * Calculate the total for a transaction type in a date range
+     * @param userId user ID
+     * @param transactionType transaction type
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return total amount (positive value)
+     */
+    BigDecimal calculateTotal(Long userId, TransactionType transactionType, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Drop a user's ledger so the next query reloads it
+     * @param userId user ID
+     */
+    void evict(Long userId);
+}
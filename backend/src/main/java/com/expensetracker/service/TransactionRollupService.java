@@ -0,0 +1,46 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for the monthly transaction rollup
+ * Keeps pre-aggregated monthly totals in sync with transaction writes
+ * and answers date-range category breakdowns from them
+ */
+public interface TransactionRollupService {
+
+    /**
+     * Add a transaction's contribution to its monthly bucket
+     * Must be called inside the same DB transaction as the write
+     * @param transaction active transaction
+     */
+    void recordTransaction(Transaction transaction);
+
+    /**
+     * Add the contributions of many transactions, one update per touched bucket
+     * Must be called inside the same DB transaction as the writes
+     * @param transactions active transactions
+     */
+    void recordTransactions(Collection<Transaction> transactions);
+
+    /**
+     * Remove a transaction's contribution from its monthly bucket
+     * Must be called before the transaction's amount, type, date or category change
+     * @param transaction active transaction
+     */
+    void reverseTransaction(Transaction transaction);
+
+    /**
+     * Get expense totals by category in a date range, largest first
+     * @param userId user ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return map of category name to total amount (positive value)
+     */
+    Map<String, BigDecimal> getExpensesByCategory(Long userId, LocalDate startDate, LocalDate endDate);
+}
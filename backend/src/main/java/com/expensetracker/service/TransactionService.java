@@ -1,12 +1,16 @@
 package com.expensetracker.service;
 
 import com.expensetracker.dto.request.TransactionCreateDTO;
+import com.expensetracker.dto.request.TransactionCursor;
+import com.expensetracker.dto.request.TransactionSearchCriteria;
 import com.expensetracker.dto.request.TransactionUpdateDTO;
+import com.expensetracker.dto.response.TransactionBatchResultDTO;
 import com.expensetracker.dto.response.TransactionResponseDTO;
 import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,6 +31,15 @@ public interface TransactionService {
      */
     TransactionResponseDTO createTransaction(TransactionCreateDTO dto, User user);
 
+    /**
+     * Create many transactions in one request using JDBC batching
+     * Invalid rows are reported individually and do not abort the batch
+     * @param dtos transactions data
+     * @param user authenticated user
+     * @return per-row results in request order
+     */
+    TransactionBatchResultDTO createTransactions(List<TransactionCreateDTO> dtos, User user);
+
     /**
      * Update an existing transaction
      * @param id transaction ID
@@ -87,6 +100,66 @@ public interface TransactionService {
             Pageable pageable
     );
 
+    /**
+     * Search transactions combining any of date range, categories, type, payment method,
+     * amount bounds and text in a single query
+     * @param user authenticated user
+     * @param criteria search filters
+     * @param pageable page number and size (results are newest first)
+     * @return page of transactions
+     */
+    Page<TransactionSummaryDTO> searchTransactions(User user, TransactionSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Full-text search over description and notes, best match first
+     * @param user authenticated user
+     * @param query words or fragment to look for
+     * @param pageable page number and size
+     * @return page of transactions in rank order
+     */
+    Page<TransactionSummaryDTO> searchTransactionsByText(User user, String query, Pageable pageable);
+
+    /**
+     * Get all transactions for a user using keyset pagination
+     * @param user authenticated user
+     * @param cursor position after which to continue
+     * @param size page size
+     * @return slice of transactions, newest first
+     */
+    Slice<TransactionSummaryDTO> getUserTransactions(User user, TransactionCursor cursor, int size);
+
+    /**
+     * Get transactions by date range using keyset pagination
+     * @param user authenticated user
+     * @param startDate start date
+     * @param endDate end date
+     * @param cursor position after which to continue
+     * @param size page size
+     * @return slice of transactions, newest first
+     */
+    Slice<TransactionSummaryDTO> getTransactionsByDateRange(
+            User user, 
+            LocalDate startDate, 
+            LocalDate endDate, 
+            TransactionCursor cursor, 
+            int size
+    );
+
+    /**
+     * Get transactions by category using keyset pagination
+     * @param user authenticated user
+     * @param categoryId category ID
+     * @param cursor position after which to continue
+     * @param size page size
+     * @return slice of transactions, newest first
+     */
+    Slice<TransactionSummaryDTO> getTransactionsByCategory(
+            User user, 
+            Long categoryId, 
+            TransactionCursor cursor, 
+            int size
+    );
+
     /**
      * Get recent transactions
      * @param user authenticated user
@@ -0,0 +1,38 @@
+package com.expensetracker.service;
+
+import com.expensetracker.event.TransactionChangeEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for live transaction change streams
+ * In-process fan-out of committed TransactionChangeEvents to each user's open SSE connections
+ */
+public interface TransactionStreamService {
+
+    /**
+     * Open a stream for a user
+     * The oldest stream of the user is closed when the per-user limit is reached
+     * @param userId the user's ID
+     * @return emitter to return from the controller
+     */
+    SseEmitter subscribe(Long userId);
+
+    /**
+     * Deliver a committed change to the user's open streams
+     * Subscribers whose buffer is full are disconnected rather than slowing down the others
+     * @param event the change
+     */
+    void publish(TransactionChangeEvent event);
+
+    /**
+     * Send a keep-alive comment to every open stream
+     * Also detects connections the client has dropped
+     */
+    void sendHeartbeats();
+
+    /**
+     * Number of open streams on this node
+     * @return subscriber count
+     */
+    int getSubscriberCount();
+}
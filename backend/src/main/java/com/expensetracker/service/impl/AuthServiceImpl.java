@@ -0,0 +1,63 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.request.LoginRequestDTO;
+import com.expensetracker.dto.response.LoginResponseDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.UnauthorizedException;
+import com.expensetracker.repository.UserRepository;
+import com.expensetracker.security.JwtTokenProvider;
+import com.expensetracker.service.AuthService;
+import com.expensetracker.service.PasswordVerificationService;
+import com.expensetracker.service.SessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of AuthService
+ * Not transactional: password verification waits on the password executor,
+ * and no connection should be held meanwhile
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthServiceImpl implements AuthService {
+
+    private static final String INVALID_CREDENTIALS = "Invalid email or password";
+
+    private final UserRepository userRepository;
+    private final PasswordVerificationService passwordVerificationService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final SessionService sessionService;
+
+    @Override
+    public LoginResponseDTO login(LoginRequestDTO dto, String ipAddress, String userAgent) {
+        User user = userRepository.findByEmailAndActiveTrue(dto.getEmail()).orElse(null);
+        if (user == null) {
+            // Same BCrypt cost as a wrong password, so unknown emails cannot be told apart by timing
+            passwordVerificationService.verifyUnknownUser(dto.getPassword());
+            throw new UnauthorizedException(INVALID_CREDENTIALS);
+        }
+
+        if (!passwordVerificationService.verify(user, dto.getPassword())) {
+            log.info("Failed login for user {}", user.getId());
+            throw new UnauthorizedException(INVALID_CREDENTIALS);
+        }
+
+        String token = jwtTokenProvider.generateToken(user);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(jwtTokenProvider.getTokenLifetime());
+        sessionService.createSession(user, token, expiresAt, ipAddress, userAgent);
+
+        log.info("User {} logged in", user.getId());
+
+        return LoginResponseDTO.builder()
+                .token(token)
+                .expiresAt(expiresAt)
+                .userId(user.getId())
+                .username(user.getUsername())
+                .currency(user.getCurrency())
+                .build();
+    }
+}
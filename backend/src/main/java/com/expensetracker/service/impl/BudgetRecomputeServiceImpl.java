@@ -0,0 +1,91 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.BudgetRecomputeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Implementation of BudgetRecomputeService
+ * Each chunk of users is one short transaction: lock the chunk's budget rows, then
+ * one UPDATE ... FROM (aggregate) rewrites the ones that drifted. Locking first means
+ * concurrent spent deltas either commit before the aggregate is taken or wait for it,
+ * so none are lost. A chunk that hits a deadlock with a writer is retried.
+ */
+@Service
+@Slf4j
+public class BudgetRecomputeServiceImpl implements BudgetRecomputeService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BudgetRepository budgetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long usersPerChunk;
+
+    public BudgetRecomputeServiceImpl(
+            BudgetRepository budgetRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.budgets.recompute.users-per-chunk:500}") long usersPerChunk) {
+
+        this.budgetRepository = budgetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.usersPerChunk = usersPerChunk;
+    }
+
+    @Override
+    public int recomputeUser(Long userId) {
+        int corrected = recomputeChunk(userId, userId);
+        log.info("Recomputed budgets for user {}: {} corrected", userId, corrected);
+        return corrected;
+    }
+
+    @Override
+    public int recomputeAll() {
+        List<Object[]> range = budgetRepository.findBudgetUserIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return 0;
+        }
+        long minUserId = ((Number) range.get(0)[0]).longValue();
+        long maxUserId = ((Number) range.get(0)[1]).longValue();
+
+        int corrected = 0;
+        for (long from = minUserId; from <= maxUserId; from += usersPerChunk) {
+            long to = Math.min(from + usersPerChunk - 1, maxUserId);
+            corrected += recomputeChunk(from, to);
+        }
+
+        log.info("Recomputed budgets for users {}..{}: {} corrected", minUserId, maxUserId, corrected);
+        return corrected;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Recomputes one user ID range in its own transaction
+     */
+    private int recomputeChunk(long fromUserId, long toUserId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer corrected = transactionTemplate.execute(status -> {
+                    budgetRepository.lockBudgetsForUserRange(fromUserId, toUserId);
+                    return budgetRepository.recomputeSpentAmounts(fromUserId, toUserId);
+                });
+                if (corrected != null && corrected > 0) {
+                    log.debug("Corrected {} budgets for users {}..{}", corrected, fromUserId, toUserId);
+                }
+                return corrected == null ? 0 : corrected;
+            } catch (PessimisticLockingFailureException ex) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                log.warn("Lock conflict recomputing users {}..{}, retrying (attempt {})", fromUserId, toUserId, attempt);
+            }
+        }
+    }
+}
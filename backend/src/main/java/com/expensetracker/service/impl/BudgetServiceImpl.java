@@ -0,0 +1,41 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.response.BudgetStatusDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.BudgetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of BudgetService
+ * Budget status is one projection query joining budgets to categories;
+ * no entities are loaded and spent amounts are read as maintained on writes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BudgetServiceImpl implements BudgetService {
+
+    private final BudgetRepository budgetRepository;
+
+    @Override
+    public List<BudgetStatusDTO> getBudgetStatus(User user, int year, int month) {
+        log.debug("Getting budget status for user {}: {}-{}", user.getId(), year, month);
+
+        if (month < 1 || month > 12) {
+            throw new BadRequestException("Month must be between 1 and 12");
+        }
+        if (year < 2000 || year > 2100) {
+            throw new BadRequestException("Year must be between 2000 and 2100");
+        }
+
+        return budgetRepository.findStatusByUserAndPeriod(user.getId(), year, month);
+    }
+}
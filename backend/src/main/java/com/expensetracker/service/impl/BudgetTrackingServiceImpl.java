@@ -0,0 +1,123 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.BudgetTrackingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of BudgetTrackingService
+ * Every change is a single relative UPDATE on the matching budget row, so
+ * concurrent writers never read-modify-write spent_amount and no lost
+ * updates are possible. Transactions without a budget are a no-op.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BudgetTrackingServiceImpl implements BudgetTrackingService {
+
+    /**
+     * Orders budget periods so multi-budget writes always lock rows in the same order
+     */
+    private static final Comparator<BudgetPeriod> LOCK_ORDER = Comparator
+            .comparing(BudgetPeriod::categoryId)
+            .thenComparing(BudgetPeriod::year)
+            .thenComparing(BudgetPeriod::month);
+
+    private final BudgetRepository budgetRepository;
+
+    @Override
+    public void recordTransaction(Transaction transaction) {
+        if (isExpense(transaction)) {
+            applyDelta(transaction.getUser().getId(), periodOf(transaction), spendOf(transaction));
+        }
+    }
+
+    @Override
+    public void recordTransactions(Collection<Transaction> transactions) {
+        Map<Long, Map<BudgetPeriod, BigDecimal>> deltasByUser = new TreeMap<>();
+
+        for (Transaction transaction : transactions) {
+            if (isExpense(transaction)) {
+                deltasByUser
+                        .computeIfAbsent(transaction.getUser().getId(), userId -> new TreeMap<>(LOCK_ORDER))
+                        .merge(periodOf(transaction), spendOf(transaction), BigDecimal::add);
+            }
+        }
+
+        deltasByUser.forEach((userId, deltas) ->
+                deltas.forEach((period, delta) -> applyDelta(userId, period, delta)));
+    }
+
+    @Override
+    public void reverseTransaction(Transaction transaction) {
+        if (isExpense(transaction)) {
+            applyDelta(transaction.getUser().getId(), periodOf(transaction), spendOf(transaction).negate());
+        }
+    }
+
+    @Override
+    public void replaceTransaction(Transaction previous, Transaction updated) {
+        Map<BudgetPeriod, BigDecimal> deltas = new TreeMap<>(LOCK_ORDER);
+        if (isExpense(previous)) {
+            deltas.merge(periodOf(previous), spendOf(previous).negate(), BigDecimal::add);
+        }
+        if (isExpense(updated)) {
+            deltas.merge(periodOf(updated), spendOf(updated), BigDecimal::add);
+        }
+
+        Long userId = updated.getUser().getId();
+        deltas.forEach((period, delta) -> applyDelta(userId, period, delta));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Applies a signed spend delta to the matching budget, if one exists
+     */
+    private void applyDelta(Long userId, BudgetPeriod period, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return;
+        }
+        int updated = budgetRepository.applySpentDelta(
+                userId, period.categoryId(), period.month(), period.year(), delta);
+        if (updated > 0) {
+            log.debug("Applied spent delta {} to budget for user {} {}", delta, userId, period);
+        }
+    }
+
+    private boolean isExpense(Transaction transaction) {
+        return transaction.getTransactionType() == TransactionType.EXPENSE;
+    }
+
+    /**
+     * Spend contributed by an expense (expenses are stored negative)
+     */
+    private BigDecimal spendOf(Transaction transaction) {
+        return transaction.getAmount().abs();
+    }
+
+    private BudgetPeriod periodOf(Transaction transaction) {
+        return new BudgetPeriod(
+                transaction.getCategory().getId(),
+                transaction.getTransactionDate().getYear(),
+                transaction.getTransactionDate().getMonthValue());
+    }
+
+    /**
+     * Budget key within a user: category and calendar month
+     */
+    private record BudgetPeriod(Long categoryId, int year, int month) {
+    }
+}
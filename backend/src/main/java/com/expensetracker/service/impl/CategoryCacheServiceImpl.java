@@ -0,0 +1,85 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.entity.Category;
+import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.service.CategoryCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of CategoryCacheService
+ * Loads all of a user's categories in one query and keeps them until the TTL
+ * expires or a category write evicts the user (see CategoryCacheEvictionListener).
+ * Entries are loaded outside the cache's compute lock because the load query
+ * may flush pending category writes, which evict the same key.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryCacheServiceImpl implements CategoryCacheService {
+
+    private final Cache<Long, Map<Long, CategoryDTO>> categoryCache;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public List<CategoryDTO> getActiveCategories(Long userId) {
+        return categoriesOf(userId).values().stream()
+                .filter(category -> Boolean.TRUE.equals(category.getActive()))
+                .toList();
+    }
+
+    @Override
+    public Optional<CategoryDTO> getCategory(Long userId, Long categoryId) {
+        return Optional.ofNullable(categoriesOf(userId).get(categoryId));
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        log.debug("Evicting cached categories for user: {}", userId);
+        categoryCache.invalidate(userId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Returns the user's categories, loading them on a miss
+     */
+    private Map<Long, CategoryDTO> categoriesOf(Long userId) {
+        Map<Long, CategoryDTO> categories = categoryCache.getIfPresent(userId);
+        if (categories == null) {
+            log.debug("Loading categories into cache for user: {}", userId);
+            Map<Long, CategoryDTO> loaded = new LinkedHashMap<>();
+            for (Category category : categoryRepository.findByUserId(userId)) {
+                loaded.put(category.getId(), mapToCategoryDTO(category));
+            }
+            categories = Collections.unmodifiableMap(loaded);
+            categoryCache.put(userId, categories);
+        }
+        return categories;
+    }
+
+    /**
+     * Maps Category entity to CategoryDTO
+     */
+    private CategoryDTO mapToCategoryDTO(Category category) {
+        return CategoryDTO.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .color(category.getColor())
+                .icon(category.getIcon())
+                .isDefault(category.getIsDefault())
+                .active(category.getActive())
+                .createdAt(category.getCreatedAt())
+                .build();
+    }
+}
@@ -1,10 +1,9 @@
 package com.expensetracker.service.impl;
 
 import com.expensetracker.dto.response.CategoryDTO;
-import com.expensetracker.entity.Category;
 import com.expensetracker.entity.User;
 import com.expensetracker.exception.ResourceNotFoundException;
-import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.service.CategoryCacheService;
 import com.expensetracker.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of CategoryService
+ * Reads are served from the per-user category cache
  */
 @Service
 @RequiredArgsConstructor
@@ -23,46 +22,25 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryCacheService categoryCacheService;
 
     @Override
     public List<CategoryDTO> getUserCategories(User user) {
         log.debug("Getting categories for user: {}", user.getId());
 
-        List<Category> categories = categoryRepository.findByUserIdAndActiveTrue(user.getId());
-
-        return categories.stream()
-                .map(this::mapToCategoryDTO)
-                .collect(Collectors.toList());
+        return categoryCacheService.getActiveCategories(user.getId());
     }
 
     @Override
     public CategoryDTO getCategoryById(Long id, User user) {
         log.debug("Getting category {} for user: {}", id, user.getId());
 
-        Category category = categoryRepository.findByIdAndUserId(id, user.getId())
+        return categoryCacheService.getCategory(user.getId(), id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
-
-        return mapToCategoryDTO(category);
     }
 
     @Override
     public boolean isValidCategoryForUser(Long categoryId, Long userId) {
-        return categoryRepository.findByIdAndUserId(categoryId, userId).isPresent();
-    }
-
-    /**
-     * Maps Category entity to CategoryDTO
-     */
-    private CategoryDTO mapToCategoryDTO(Category category) {
-        return CategoryDTO.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .description(category.getDescription())
-                .color(category.getColor())
-                .icon(category.getIcon())
-                .isDefault(category.getIsDefault())
-                .build();
+        return categoryCacheService.getCategory(userId, categoryId).isPresent();
     }
 }
-
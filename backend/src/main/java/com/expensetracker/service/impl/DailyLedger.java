@@ -0,0 +1,157 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.Money;
+import com.expensetracker.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Per-user prefix sums of signed daily totals in cents
+ * One Fenwick tree per transaction type over a fixed window of days, so a
+ * point update and an arbitrary date-range sum both cost O(log days).
+ * Days outside the window hold no transactions by construction: the window
+ * covers all data when loaded, and an update outside it is refused so the
+ * caller can reload.
+ */
+public final class DailyLedger {
+
+    private static final int OBJECT_OVERHEAD_BYTES = 64;
+
+    private final LocalDate origin;
+    private final int days;
+    private final long[] income;
+    private final long[] expense;
+    private final StampedLock lock = new StampedLock();
+
+    private DailyLedger(LocalDate origin, int days) {
+        this.origin = origin;
+        this.days = days;
+        this.income = new long[days + 1];
+        this.expense = new long[days + 1];
+    }
+
+    /**
+     * Empty ledger covering [firstDay, lastDay]
+     * Fill with {@link #load} and finish with {@link #build}
+     */
+    public static DailyLedger covering(LocalDate firstDay, LocalDate lastDay) {
+        return new DailyLedger(firstDay, Math.toIntExact(ChronoUnit.DAYS.between(firstDay, lastDay)) + 1);
+    }
+
+    /**
+     * Adds a raw daily amount before {@link #build}
+     */
+    public void load(LocalDate date, TransactionType type, BigDecimal amount) {
+        treeOf(type)[indexOf(date)] += Money.toMinorUnits(amount);
+    }
+
+    /**
+     * Turns the raw daily amounts into Fenwick trees in O(days)
+     */
+    public DailyLedger build() {
+        buildTree(income);
+        buildTree(expense);
+        return this;
+    }
+
+    /**
+     * Checks if a date lies inside the ledger window
+     */
+    public boolean covers(LocalDate date) {
+        long offset = ChronoUnit.DAYS.between(origin, date);
+        return offset >= 0 && offset < days;
+    }
+
+    /**
+     * Applies a signed amount to one day
+     * @return false if the date is outside the window and nothing was applied
+     */
+    public boolean add(LocalDate date, TransactionType type, long cents) {
+        if (!covers(date)) {
+            return false;
+        }
+        long[] tree = treeOf(type);
+
+        long stamp = lock.writeLock();
+        try {
+            for (int i = indexOf(date); i <= days; i += i & -i) {
+                tree[i] += cents;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return true;
+    }
+
+    /**
+     * Signed total of one transaction type between two dates, inclusive
+     */
+    public BigDecimal sum(TransactionType type, LocalDate startDate, LocalDate endDate) {
+        int from = Math.max(1, clampedIndexOf(startDate));
+        int to = Math.min(days, clampedIndexOf(endDate));
+        if (from > to) {
+            return BigDecimal.valueOf(0, Money.SCALE);
+        }
+        long[] tree = treeOf(type);
+
+        long stamp = lock.tryOptimisticRead();
+        long cents = prefix(tree, to) - prefix(tree, from - 1);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                cents = prefix(tree, to) - prefix(tree, from - 1);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return BigDecimal.valueOf(cents, Money.SCALE);
+    }
+
+    /**
+     * Approximate heap footprint, used as cache weight
+     */
+    public int sizeInBytes() {
+        return OBJECT_OVERHEAD_BYTES + 2 * Long.BYTES * (days + 1);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private long[] treeOf(TransactionType type) {
+        return type == TransactionType.INCOME ? income : expense;
+    }
+
+    /**
+     * 1-based tree index of a date inside the window
+     */
+    private int indexOf(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(origin, date) + 1;
+    }
+
+    /**
+     * Tree index of any date, clamped just outside the window
+     */
+    private int clampedIndexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(origin, date) + 1;
+        return (int) Math.max(0, Math.min(days + 1L, index));
+    }
+
+    private static long prefix(long[] tree, int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static void buildTree(long[] tree) {
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
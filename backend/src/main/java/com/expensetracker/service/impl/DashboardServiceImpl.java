@@ -0,0 +1,101 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.dto.response.DashboardDTO;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.CategoryCacheService;
+import com.expensetracker.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of DashboardService
+ * Totals, count and category breakdown come from one grouped scan of the
+ * user's transactions; category names are resolved from the category cache.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int MAX_RECENT_LIMIT = 50;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryCacheService categoryCacheService;
+
+    @Override
+    public DashboardDTO getDashboard(User user, LocalDate startDate, LocalDate endDate, int recentLimit) {
+        log.debug("Getting dashboard for user {}: {} to {}", user.getId(), startDate, endDate);
+
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+        if (recentLimit < 0 || recentLimit > MAX_RECENT_LIMIT) {
+            throw new BadRequestException("Recent limit must be between 0 and " + MAX_RECENT_LIMIT);
+        }
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpenses = BigDecimal.ZERO;
+        long transactionCount = 0;
+        Map<Long, BigDecimal> expensesByCategoryId = new HashMap<>();
+
+        for (Object[] row : transactionRepository.aggregateByCategoryAndDateRange(user.getId(), startDate, endDate)) {
+            Long categoryId = (Long) row[0];
+            BigDecimal income = (BigDecimal) row[1];
+            BigDecimal expenses = ((BigDecimal) row[2]).abs();
+
+            totalIncome = totalIncome.add(income);
+            totalExpenses = totalExpenses.add(expenses);
+            transactionCount += ((Number) row[3]).longValue();
+            if (expenses.signum() != 0) {
+                expensesByCategoryId.put(categoryId, expenses);
+            }
+        }
+
+        List<TransactionSummaryDTO> recentTransactions = recentLimit == 0
+                ? List.of()
+                : transactionRepository.findRecentSummaries(user.getId(), PageRequest.of(0, recentLimit));
+
+        return DashboardDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalIncome(totalIncome)
+                .totalExpenses(totalExpenses)
+                .balance(totalIncome.subtract(totalExpenses))
+                .transactionCount(transactionCount)
+                .expensesByCategory(toNamedBreakdown(user.getId(), expensesByCategoryId))
+                .recentTransactions(recentTransactions)
+                .build();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Resolves category names and orders the breakdown largest first
+     */
+    private Map<String, BigDecimal> toNamedBreakdown(Long userId, Map<Long, BigDecimal> expensesByCategoryId) {
+        Map<String, BigDecimal> breakdown = new LinkedHashMap<>();
+        expensesByCategoryId.entrySet().stream()
+                .sorted(Map.Entry.<Long, BigDecimal>comparingByValue().reversed())
+                .forEach(entry -> breakdown.put(
+                        categoryCacheService.getCategory(userId, entry.getKey())
+                                .map(CategoryDTO::getName)
+                                .orElse("Category " + entry.getKey()),
+                        entry.getValue()));
+        return breakdown;
+    }
+}
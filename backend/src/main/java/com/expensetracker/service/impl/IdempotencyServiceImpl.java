@@ -0,0 +1,154 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.IdempotencyKey;
+import com.expensetracker.repository.IdempotencyKeyRepository;
+import com.expensetracker.security.TokenHasher;
+import com.expensetracker.service.IdempotencyService;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of IdempotencyService
+ * Completed keys are served from an in-memory LRU keyed by user and key digest,
+ * falling back to the idempotency_keys table. Claims are a single
+ * INSERT ... ON CONFLICT DO NOTHING, so concurrent requests with the same key
+ * cannot both run. Each repository call commits on its own: the claim must be
+ * visible to other requests before the original request starts.
+ * Claims running on this node are tracked in memory and their leases renewed by
+ * IdempotencyClaimRenewer, so a request slower than the claim timeout keeps its key.
+ * Responses larger than app.cache.idempotency.max-entry-size are replayed from the
+ * table only, so a few large batch responses cannot crowd out the cache.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache<String, StoredResponse> idempotencyCache;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+    private final long maxCachedEntrySize;
+    private final Map<String, ActiveClaim> activeClaims = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            Cache<String, StoredResponse> idempotencyCache,
+            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.claim-timeout:60s}") Duration claimTimeout,
+            @Value("${app.cache.idempotency.max-entry-size:256KB}") DataSize maxCachedEntrySize) {
+
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.idempotencyCache = idempotencyCache;
+        this.ttl = ttl;
+        this.claimTimeout = claimTimeout;
+        this.maxCachedEntrySize = maxCachedEntrySize.toBytes();
+    }
+
+    @Override
+    public Claim claim(Long userId, String key, byte[] requestHash) {
+        byte[] keyHash = TokenHasher.sha256(key);
+        String cacheKey = cacheKey(userId, keyHash);
+
+        LocalDateTime now = LocalDateTime.now();
+        StoredResponse cached = idempotencyCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (now.isBefore(cached.getExpiresAt())) {
+                return replayOrMismatch(cached, requestHash);
+            }
+            // Past its TTL the key may be reused, exactly as once its row is deleted
+            idempotencyCache.invalidate(cacheKey);
+        }
+
+        idempotencyKeyRepository.deleteIfExpired(userId, keyHash, now);
+        if (idempotencyKeyRepository.insertClaim(userId, keyHash, requestHash, now, now.plus(claimTimeout)) == 1) {
+            activeClaims.put(cacheKey, new ActiveClaim(userId, keyHash));
+            return Claim.of(Outcome.ACQUIRED);
+        }
+
+        // Lost the insert: the other request either finished or is still running
+        Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByKey(userId, keyHash);
+        if (existing.isEmpty()) {
+            return Claim.of(Outcome.IN_PROGRESS);
+        }
+
+        IdempotencyKey row = existing.get();
+        if (!Arrays.equals(row.getRequestHash(), requestHash)) {
+            return Claim.of(Outcome.MISMATCH);
+        }
+        if (!row.isCompleted()) {
+            return Claim.of(Outcome.IN_PROGRESS);
+        }
+
+        StoredResponse stored = new StoredResponse(
+                row.getRequestHash(), row.getResponseStatus(), row.getResponseBody(), row.getExpiresAt());
+        cache(cacheKey, stored);
+        return Claim.replay(stored);
+    }
+
+    @Override
+    public void complete(Long userId, String key, byte[] requestHash, int status, String body) {
+        byte[] keyHash = TokenHasher.sha256(key);
+        String cacheKey = cacheKey(userId, keyHash);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        activeClaims.remove(cacheKey);
+
+        if (idempotencyKeyRepository.complete(userId, keyHash, status, body, expiresAt) == 0) {
+            log.warn("Idempotency claim for user {} expired before its response was stored", userId);
+            return;
+        }
+
+        cache(cacheKey, new StoredResponse(requestHash, status, body, expiresAt));
+    }
+
+    @Override
+    public void release(Long userId, String key) {
+        byte[] keyHash = TokenHasher.sha256(key);
+        activeClaims.remove(cacheKey(userId, keyHash));
+        idempotencyKeyRepository.release(userId, keyHash);
+    }
+
+    @Override
+    public void renewClaims() {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(claimTimeout);
+        activeClaims.forEach((cacheKey, claim) -> {
+            if (idempotencyKeyRepository.renewClaim(claim.userId(), claim.keyHash(), expiresAt) == 0) {
+                // Completed or released meanwhile, or taken over after a missed renewal
+                activeClaims.remove(cacheKey, claim);
+            }
+        });
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Claim acquired on this node whose request has not finished yet
+     */
+    private record ActiveClaim(Long userId, byte[] keyHash) {
+    }
+
+    private void cache(String cacheKey, StoredResponse stored) {
+        if (stored.sizeInBytes() <= maxCachedEntrySize) {
+            idempotencyCache.put(cacheKey, stored);
+        }
+    }
+
+    private Claim replayOrMismatch(StoredResponse stored, byte[] requestHash) {
+        return Arrays.equals(stored.getRequestHash(), requestHash)
+                ? Claim.replay(stored)
+                : Claim.of(Outcome.MISMATCH);
+    }
+
+    private String cacheKey(Long userId, byte[] keyHash) {
+        return userId + ":" + TokenHasher.toHex(keyHash);
+    }
+}
@@ -0,0 +1,168 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.ServiceUnavailableException;
+import com.expensetracker.repository.UserRepository;
+import com.expensetracker.service.PasswordVerificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of PasswordVerificationService
+ * Each check is one task on the password executor: it records how long it waited
+ * in the queue and how long BCrypt took, and, when rehashing is enabled and the
+ * stored cost differs from the configured one, computes the new hash in the same
+ * task. The new hash is written from the calling thread, not the executor.
+ * Unknown accounts are checked against a dummy hash of the configured cost, so a
+ * login for an unknown email takes as long as one with a wrong password.
+ * Not transactional: no connection is held while waiting for the executor.
+ */
+@Service
+@Slf4j
+public class PasswordVerificationServiceImpl implements PasswordVerificationService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final ExecutorService executor;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final int targetCost;
+    private final boolean rehashOnLogin;
+    private final Duration timeout;
+    private final String dummyHash;
+
+    private final Timer queueWaitTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+    private final Counter rehashCounter;
+
+    public PasswordVerificationServiceImpl(
+            @Qualifier("passwordVerificationExecutor") ExecutorService executor,
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.bcrypt.cost:10}") int targetCost,
+            @Value("${app.security.bcrypt.rehash-on-login:false}") boolean rehashOnLogin,
+            @Value("${app.security.password-executor.timeout:5s}") Duration timeout) {
+
+        this.executor = executor;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.targetCost = targetCost;
+        this.rehashOnLogin = rehashOnLogin;
+        this.timeout = timeout;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        this.queueWaitTimer = Timer.builder("password.verification.queue.wait")
+                .description("Time a verification waited for an executor thread")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.verification.duration")
+                .description("BCrypt verification time")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.verification.rejected")
+                .description("Verifications rejected because the executor was saturated")
+                .register(meterRegistry);
+        this.rehashCounter = Counter.builder("password.verification.rehashed")
+                .description("Password hashes upgraded to the configured cost on login")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean verify(User user, String rawPassword) {
+        Verification verification = await(submit(user.getPasswordHash(), rawPassword));
+
+        if (verification.matches() && verification.newHash() != null) {
+            userRepository.updatePasswordHash(user.getId(), verification.newHash());
+            user.setPasswordHash(verification.newHash());
+            rehashCounter.increment();
+            log.info("Rehashed password for user {} to cost {}", user.getId(), targetCost);
+        }
+        return verification.matches();
+    }
+
+    @Override
+    public void verifyUnknownUser(String rawPassword) {
+        await(submit(dummyHash, rawPassword));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Result of one pooled check; newHash is set only when a rehash is due
+     */
+    private record Verification(boolean matches, String newHash) {
+    }
+
+    /**
+     * Queues one check on the password executor, failing with 503 when it is saturated
+     */
+    private Future<Verification> submit(String storedHash, String rawPassword) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return verifyTimer.record(() -> check(storedHash, rawPassword));
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Too many login attempts in progress, please retry", ex);
+        }
+    }
+
+    /**
+     * Runs on the password executor
+     */
+    private Verification check(String storedHash, String rawPassword) {
+        if (storedHash == null || !passwordEncoder.matches(rawPassword, storedHash)) {
+            return new Verification(false, null);
+        }
+        String newHash = rehashOnLogin && costOf(storedHash) != targetCost
+                ? passwordEncoder.encode(rawPassword)
+                : null;
+        return new Verification(true, newHash);
+    }
+
+    /**
+     * Waits for a pooled check, failing with 503 instead of blocking indefinitely
+     */
+    private Verification await(Future<Verification> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Password verification timed out, please retry", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password verification interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Password verification failed", ex.getCause());
+        }
+    }
+
+    /**
+     * BCrypt cost encoded in a hash, or -1 if it is not a BCrypt hash
+     */
+    static int costOf(String hash) {
+        Matcher matcher = BCRYPT_COST.matcher(hash);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.UserSession;
+import com.expensetracker.repository.UserSessionRepository;
+import com.expensetracker.security.TokenHasher;
+import com.expensetracker.security.VerifiedSession;
+import com.expensetracker.service.SessionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementation of SessionService
+ * Verified sessions are cached by SHA-256 token digest, so the raw token is never
+ * kept in memory and a hit costs one hash plus one map lookup. Invalidations evict
+ * immediately and again after the transaction completes, so a concurrent validation
+ * cannot re-cache a row that was still active before the commit.
+ * validateSession runs on every authenticated request and is deliberately not
+ * transactional: a cache hit uses no connection, and a miss is a single
+ * repository read.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionServiceImpl implements SessionService {
+
+    private final Cache<String, VerifiedSession> sessionCache;
+    private final UserSessionRepository userSessionRepository;
+
+    @Override
+    @Transactional
+    public UserSession createSession(
+            User user,
+            String jwtToken,
+            LocalDateTime expiresAt,
+            String ipAddress,
+            String userAgent) {
+
+        UserSession session = userSessionRepository.save(UserSession.builder()
+                .user(user)
+                .jwtToken(jwtToken)
+                .expiresAt(expiresAt)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .active(true)
+                .build());
+
+        log.debug("Created session {} for user {}", session.getId(), user.getId());
+        return session;
+    }
+
+    @Override
+    public Optional<VerifiedSession> validateSession(String jwtToken) {
+        byte[] tokenHash = TokenHasher.sha256(jwtToken);
+        String key = TokenHasher.toHex(tokenHash);
+
+        VerifiedSession cached = sessionCache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return Optional.of(cached);
+            }
+            sessionCache.invalidate(key);
+            return Optional.empty();
+        }
+
+        Optional<VerifiedSession> verified = userSessionRepository.findByTokenHashAndActiveTrue(tokenHash)
+                .filter(UserSession::isValid)
+                .map(session -> new VerifiedSession(
+                        session.getId(),
+                        session.getUser().getId(),
+                        session.getExpiresAt()));
+
+        verified.ifPresent(session -> sessionCache.put(key, session));
+        return verified;
+    }
+
+    @Override
+    @Transactional
+    public void invalidateSessionByToken(String jwtToken) {
+        byte[] tokenHash = TokenHasher.sha256(jwtToken);
+        String key = TokenHasher.toHex(tokenHash);
+
+        userSessionRepository.invalidateSessionByTokenHash(tokenHash);
+        evictNowAndAfterCompletion(() -> sessionCache.invalidate(key));
+    }
+
+    @Override
+    @Transactional
+    public void invalidateAllUserSessions(Long userId) {
+        log.info("Invalidating all sessions for user {}", userId);
+
+        userSessionRepository.invalidateAllUserSessions(userId);
+        evictNowAndAfterCompletion(() -> sessionCache.asMap().values()
+                .removeIf(session -> session.getUserId().equals(userId)));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Runs an eviction now and, inside a transaction, once more after it completes
+     */
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
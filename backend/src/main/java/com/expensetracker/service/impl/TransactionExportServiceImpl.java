@@ -0,0 +1,131 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.dto.request.TransactionExportFormat;
+import com.expensetracker.dto.response.TransactionExportDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.TransactionExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of TransactionExportService
+ * Holds one read-only DB transaction open for the duration of the export
+ * so the JDBC driver can fetch rows in chunks instead of materialising them.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final String CSV_HEADER =
+            "id,transactionDate,transactionType,amount,description,category,paymentMethod,notes";
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectWriter rowWriter;
+
+    public TransactionExportServiceImpl(TransactionRepository transactionRepository, ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        this.rowWriter = objectMapper.writerFor(TransactionExportDTO.class);
+    }
+
+    @Override
+    public void exportTransactions(User user, LocalDate startDate, LocalDate endDate,
+                                   TransactionExportFormat format, OutputStream outputStream) throws IOException {
+        log.debug("Exporting transactions for user {}: format={}, {} to {}",
+                user.getId(), format, startDate, endDate);
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        // Send the first bytes before the query starts returning rows
+        writer.flush();
+
+        long rows = 0;
+        try (Stream<TransactionExportDTO> stream = transactionRepository.streamForExport(
+                user.getId(),
+                startDate != null ? startDate : EARLIEST_DATE,
+                endDate != null ? endDate : LATEST_DATE)) {
+
+            Iterator<TransactionExportDTO> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TransactionExportDTO row = iterator.next();
+                if (format == TransactionExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} transactions for user {}", rows, user.getId());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Writes one RFC 4180 CSV record
+     */
+    private void writeCsvRow(Writer writer, TransactionExportDTO row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getTransactionDate().toString());
+        writer.write(',');
+        writer.write(row.getTransactionType().name());
+        writer.write(',');
+        writer.write(row.getAmount().toPlainString());
+        writer.write(',');
+        writeCsvField(writer, row.getDescription());
+        writer.write(',');
+        writeCsvField(writer, row.getCategoryName());
+        writer.write(',');
+        writer.write(row.getPaymentMethod() != null ? row.getPaymentMethod().name() : "");
+        writer.write(',');
+        writeCsvField(writer, row.getNotes());
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a text field, quoting it when it contains separators, quotes or line breaks
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
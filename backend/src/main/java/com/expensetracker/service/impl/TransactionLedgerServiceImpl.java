@@ -0,0 +1,187 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.Money;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.event.TransactionChangeEvent.TotalsDelta;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.TransactionLedgerService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementation of TransactionLedgerService
+ * Ledgers are weighed by their array size and evicted LRU under app.ledger.max-memory.
+ * Committed writes from TransactionServiceImpl are applied through TransactionChangeEvent
+ * totals deltas. A load that overlaps a write of the same user (tracked per stripe of
+ * user IDs) still answers its own query but is not cached, so a delta is never
+ * counted twice or lost. Entries also expire after app.ledger.max-ttl, which bounds
+ * staleness from writes made on other nodes.
+ */
+@Service
+@Slf4j
+public class TransactionLedgerServiceImpl implements TransactionLedgerService {
+
+    private static final int STRIPES = 256;
+
+    private final TransactionRepository transactionRepository;
+    private final Cache<Long, DailyLedger> ledgers;
+    private final int paddingDays;
+
+    private final AtomicLongArray pendingWrites = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(STRIPES);
+
+    public TransactionLedgerServiceImpl(
+            TransactionRepository transactionRepository,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.ledger.max-memory:64MB}") DataSize maxMemory,
+            @Value("${app.ledger.max-ttl:10m}") Duration maxTtl,
+            @Value("${app.ledger.padding-days:366}") int paddingDays) {
+
+        this.transactionRepository = transactionRepository;
+        this.paddingDays = paddingDays;
+        this.ledgers = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long userId, DailyLedger ledger) -> ledger.sizeInBytes())
+                .expireAfterWrite(maxTtl)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, ledgers, "ledgers"));
+    }
+
+    @Override
+    public BigDecimal calculateTotal(
+            Long userId,
+            TransactionType transactionType,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        if (startDate.isAfter(endDate)) {
+            return BigDecimal.valueOf(0, Money.SCALE);
+        }
+
+        DailyLedger ledger = ledgers.getIfPresent(userId);
+        if (ledger == null) {
+            ledger = load(userId);
+        }
+        return ledger.sum(transactionType, startDate, endDate).abs();
+    }
+
+    @Override
+    public void evict(Long userId) {
+        ledgers.invalidate(userId);
+    }
+
+    /**
+     * Marks the user's stripe as being written and applies the deltas once the writing transaction commits
+     * Runs synchronously at publish time, inside the writing transaction
+     */
+    @EventListener
+    public void onTransactionChange(TransactionChangeEvent event) {
+        if (event.getTotalsDeltas().isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event.getUserId(), event.getTotalsDeltas());
+            return;
+        }
+
+        int stripe = stripeOf(event.getUserId());
+        pendingWrites.incrementAndGet(stripe);
+        writeGenerations.incrementAndGet(stripe);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event.getUserId(), event.getTotalsDeltas());
+                    }
+                } finally {
+                    pendingWrites.decrementAndGet(stripe);
+                }
+            }
+        });
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Builds a user's ledger and caches it unless a write raced with the load
+     */
+    private DailyLedger load(Long userId) {
+        int stripe = stripeOf(userId);
+        long generation = writeGenerations.get(stripe);
+        boolean quiet = pendingWrites.get(stripe) == 0;
+
+        DailyLedger ledger = buildLedger(userId);
+
+        if (quiet && pendingWrites.get(stripe) == 0 && writeGenerations.get(stripe) == generation) {
+            ledgers.put(userId, ledger);
+        }
+        return ledger;
+    }
+
+    /**
+     * One grouped query over the user's history, padded so near-term writes stay inside the window
+     */
+    private DailyLedger buildLedger(Long userId) {
+        List<Object[]> rows = transactionRepository.sumByDateAndType(userId);
+
+        LocalDate first = LocalDate.now();
+        LocalDate last = first;
+        for (Object[] row : rows) {
+            LocalDate date = (LocalDate) row[0];
+            if (date.isBefore(first)) {
+                first = date;
+            }
+            if (date.isAfter(last)) {
+                last = date;
+            }
+        }
+
+        DailyLedger ledger = DailyLedger.covering(first.minusDays(paddingDays), last.plusDays(paddingDays));
+        for (Object[] row : rows) {
+            ledger.load((LocalDate) row[0], (TransactionType) row[1], (BigDecimal) row[2]);
+        }
+        log.debug("Loaded daily ledger for user {} from {} day buckets", userId, rows.size());
+        return ledger.build();
+    }
+
+    /**
+     * Applies committed deltas to a cached ledger; a date outside its window drops the ledger instead
+     */
+    private void apply(Long userId, List<TotalsDelta> deltas) {
+        DailyLedger ledger = ledgers.getIfPresent(userId);
+        if (ledger == null) {
+            return;
+        }
+        for (TotalsDelta delta : deltas) {
+            if (!ledger.add(delta.getDate(), delta.getTransactionType(), delta.getAmount().getMinorUnits())) {
+                ledgers.invalidate(userId);
+                return;
+            }
+        }
+    }
+
+    private static int stripeOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+}
@@ -0,0 +1,171 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.TransactionMonthlyRollupId;
+import com.expensetracker.repository.TransactionMonthlyRollupRepository;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.TransactionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of TransactionRollupService
+ * Splits every date range into whole months (served by the rollup table)
+ * and at most two partial edge months (served by the transactions table),
+ * so aggregate cost no longer grows with the length of a user's history.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TransactionRollupServiceImpl implements TransactionRollupService {
+
+    private final TransactionMonthlyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    @Transactional
+    public void recordTransaction(Transaction transaction) {
+        applyDelta(transaction, transaction.getAmount(), 1L);
+    }
+
+    @Override
+    @Transactional
+    public void recordTransactions(Collection<Transaction> transactions) {
+        Map<TransactionMonthlyRollupId, BigDecimal> amountDeltas = new HashMap<>();
+        Map<TransactionMonthlyRollupId, Long> countDeltas = new HashMap<>();
+
+        for (Transaction transaction : transactions) {
+            TransactionMonthlyRollupId bucket = bucketOf(transaction);
+            amountDeltas.merge(bucket, transaction.getAmount(), BigDecimal::add);
+            countDeltas.merge(bucket, 1L, Long::sum);
+        }
+
+        amountDeltas.forEach((bucket, amountDelta) -> applyDelta(bucket, amountDelta, countDeltas.get(bucket)));
+    }
+
+    @Override
+    @Transactional
+    public void reverseTransaction(Transaction transaction) {
+        applyDelta(transaction, transaction.getAmount().negate(), -1L);
+    }
+
+    @Override
+    public Map<String, BigDecimal> getExpensesByCategory(Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<Long, String> categoryNames = new HashMap<>();
+        Map<Long, BigDecimal> categoryTotals = new HashMap<>();
+
+        if (!startDate.isAfter(endDate)) {
+            YearMonth firstWholeMonth = firstWholeMonth(startDate);
+            YearMonth lastWholeMonth = lastWholeMonth(endDate);
+
+            if (firstWholeMonth.isAfter(lastWholeMonth)) {
+                mergeCategoryTotals(categoryNames, categoryTotals,
+                        transactionRepository.sumExpensesByCategoryIdAndDateRange(userId, startDate, endDate));
+            } else {
+                mergeCategoryTotals(categoryNames, categoryTotals,
+                        rollupRepository.sumExpensesByCategoryAndMonthRange(
+                                userId,
+                                firstWholeMonth.getYear(),
+                                firstWholeMonth.getMonthValue(),
+                                lastWholeMonth.getYear(),
+                                lastWholeMonth.getMonthValue()));
+
+                LocalDate rollupStart = firstWholeMonth.atDay(1);
+                LocalDate rollupEnd = lastWholeMonth.atEndOfMonth();
+
+                if (startDate.isBefore(rollupStart)) {
+                    mergeCategoryTotals(categoryNames, categoryTotals,
+                            transactionRepository.sumExpensesByCategoryIdAndDateRange(
+                                    userId, startDate, rollupStart.minusDays(1)));
+                }
+                if (endDate.isAfter(rollupEnd)) {
+                    mergeCategoryTotals(categoryNames, categoryTotals,
+                            transactionRepository.sumExpensesByCategoryIdAndDateRange(
+                                    userId, rollupEnd.plusDays(1), endDate));
+                }
+            }
+        }
+
+        // Expenses are negative: ascending order puts the largest expense first
+        Map<String, BigDecimal> expensesByCategory = new LinkedHashMap<>();
+        categoryTotals.entrySet().stream()
+                .filter(entry -> entry.getValue().signum() != 0)
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> expensesByCategory.put(
+                        categoryNames.get(entry.getKey()),
+                        entry.getValue().abs()));
+
+        return expensesByCategory;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Applies a signed delta to the transaction's bucket
+     */
+    private void applyDelta(Transaction transaction, BigDecimal amountDelta, long countDelta) {
+        applyDelta(bucketOf(transaction), amountDelta, countDelta);
+    }
+
+    /**
+     * Applies a signed delta to a bucket, creating it on first use (one upsert statement)
+     */
+    private void applyDelta(TransactionMonthlyRollupId bucket, BigDecimal amountDelta, long countDelta) {
+        rollupRepository.upsertDelta(bucket, amountDelta, countDelta);
+    }
+
+    /**
+     * Monthly bucket a transaction contributes to
+     */
+    private TransactionMonthlyRollupId bucketOf(Transaction transaction) {
+        return new TransactionMonthlyRollupId(
+                transaction.getUser().getId(),
+                transaction.getCategory().getId(),
+                transaction.getTransactionDate().getYear(),
+                transaction.getTransactionDate().getMonthValue(),
+                transaction.getTransactionType());
+    }
+
+    /**
+     * Merges [categoryId, categoryName, signedTotal] rows into the accumulators
+     */
+    private void mergeCategoryTotals(
+            Map<Long, String> categoryNames,
+            Map<Long, BigDecimal> categoryTotals,
+            List<Object[]> rows) {
+
+        for (Object[] row : rows) {
+            Long categoryId = (Long) row[0];
+            categoryNames.put(categoryId, (String) row[1]);
+            categoryTotals.merge(categoryId, (BigDecimal) row[2], BigDecimal::add);
+        }
+    }
+
+    /**
+     * First month fully contained in a range starting at the given date
+     */
+    private YearMonth firstWholeMonth(LocalDate startDate) {
+        YearMonth month = YearMonth.from(startDate);
+        return startDate.getDayOfMonth() == 1 ? month : month.plusMonths(1);
+    }
+
+    /**
+     * Last month fully contained in a range ending at the given date
+     */
+    private YearMonth lastWholeMonth(LocalDate endDate) {
+        YearMonth month = YearMonth.from(endDate);
+        return endDate.equals(month.atEndOfMonth()) ? month : month.minusMonths(1);
+    }
+}
@@ -1,33 +1,59 @@
 package com.expensetracker.service.impl;
 
+import com.expensetracker.config.RetryOnCounterContention;
 import com.expensetracker.dto.request.TransactionCreateDTO;
+import com.expensetracker.dto.request.TransactionCursor;
+import com.expensetracker.dto.request.TransactionSearchCriteria;
 import com.expensetracker.dto.request.TransactionUpdateDTO;
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.dto.response.TransactionBatchItemDTO;
+import com.expensetracker.dto.response.TransactionBatchResultDTO;
 import com.expensetracker.dto.response.TransactionResponseDTO;
 import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Money;
 import com.expensetracker.entity.Transaction;
 import com.expensetracker.entity.User;
 import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.event.TransactionChangeEvent.ChangeType;
+import com.expensetracker.event.TransactionChangeEvent.TotalsDelta;
 import com.expensetracker.exception.BadRequestException;
 import com.expensetracker.exception.BusinessValidationException;
+import com.expensetracker.exception.ConflictException;
 import com.expensetracker.exception.ResourceNotFoundException;
 import com.expensetracker.repository.CategoryRepository;
 import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.repository.TransactionSearchRepository;
+import com.expensetracker.service.BudgetTrackingService;
+import com.expensetracker.service.CategoryCacheService;
+import com.expensetracker.service.TransactionLedgerService;
+import com.expensetracker.service.TransactionRollupService;
 import com.expensetracker.service.TransactionService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -40,16 +66,50 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TransactionServiceImpl implements TransactionService {
 
+    /**
+     * Maximum number of rows accepted by a single batch create request
+     */
+    static final int MAX_BATCH_SIZE = 100_000;
+
+    /**
+     * Rows persisted between flush/clear cycles during a batch create
+     * (a multiple of hibernate.jdbc.batch_size)
+     */
+    static final int BATCH_FLUSH_SIZE = 1_000;
+
+    /**
+     * Maximum number of category ids in one search (keeps the padded IN list small)
+     */
+    static final int MAX_SEARCH_CATEGORIES = 50;
+
+    /**
+     * Maximum length of the search text
+     */
+    static final int MAX_SEARCH_TEXT_LENGTH = 100;
+
+    /**
+     * Maximum rows in one keyset page
+     */
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCacheService categoryCacheService;
+    private final TransactionRollupService transactionRollupService;
+    private final TransactionLedgerService transactionLedgerService;
+    private final BudgetTrackingService budgetTrackingService;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
+    @RetryOnCounterContention
     public TransactionResponseDTO createTransaction(TransactionCreateDTO dto, User user) {
         log.debug("Creating transaction for user: {}", user.getId());
 
-        // Validate category belongs to user
-        Category category = categoryRepository.findByIdAndUserId(dto.getCategoryId(), user.getId())
+        // Validate category belongs to user (served from the category cache)
+        CategoryDTO category = categoryCacheService.getCategory(user.getId(), dto.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", dto.getCategoryId()));
 
         // Validate amount sign matches transaction type
@@ -58,7 +118,7 @@ public class TransactionServiceImpl implements TransactionService {
         // Create transaction entity
         Transaction transaction = Transaction.builder()
                 .user(user)
-                .category(category)
+                .category(categoryRepository.getReferenceById(category.getId()))
                 .amount(adjustAmountSign(dto.getAmount(), dto.getTransactionType()))
                 .description(dto.getDescription())
                 .transactionDate(dto.getTransactionDate())
@@ -69,13 +129,117 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionRollupService.recordTransaction(savedTransaction);
+        budgetTrackingService.recordTransaction(savedTransaction);
         log.info("Transaction created successfully with ID: {}", savedTransaction.getId());
 
-        return mapToResponseDTO(savedTransaction);
+        TransactionResponseDTO response = mapToResponseDTO(savedTransaction, category);
+        eventPublisher.publishEvent(new TransactionChangeEvent(ChangeType.CREATED, user.getId(),
+                savedTransaction.getId(), response, List.of(totalsDelta(savedTransaction, user, false))));
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public TransactionBatchResultDTO createTransactions(List<TransactionCreateDTO> dtos, User user) {
+        log.debug("Creating batch of {} transactions for user: {}", dtos == null ? 0 : dtos.size(), user.getId());
+
+        if (dtos == null || dtos.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one transaction");
+        }
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must not exceed " + MAX_BATCH_SIZE + " transactions");
+        }
+
+        // Validate every row up front and collect the distinct categories referenced
+        List<List<String>> rowErrors = new ArrayList<>(dtos.size());
+        Set<Long> categoryIds = new HashSet<>();
+        for (TransactionCreateDTO dto : dtos) {
+            List<String> errors = validateBatchRow(dto);
+            rowErrors.add(errors);
+            if (errors.isEmpty()) {
+                categoryIds.add(dto.getCategoryId());
+            }
+        }
+
+        // Validate category ownership once per distinct categoryId
+        Map<Long, Category> categories = new HashMap<>();
+        for (Long categoryId : categoryIds) {
+            categoryCacheService.getCategory(user.getId(), categoryId).ifPresent(category ->
+                    categories.put(categoryId, categoryRepository.getReferenceById(categoryId)));
+        }
+
+        List<TransactionBatchItemDTO> results = new ArrayList<>(dtos.size());
+        List<Transaction> pending = new ArrayList<>(BATCH_FLUSH_SIZE);
+        List<TransactionBatchItemDTO> pendingResults = new ArrayList<>(BATCH_FLUSH_SIZE);
+        Map<LocalDate, Map<TransactionType, Money>> dailyTotals = new HashMap<>();
+        int createdCount = 0;
+
+        for (int index = 0; index < dtos.size(); index++) {
+            TransactionCreateDTO dto = dtos.get(index);
+            List<String> errors = rowErrors.get(index);
+            Category category = errors.isEmpty() ? categories.get(dto.getCategoryId()) : null;
+
+            if (errors.isEmpty() && category == null) {
+                errors = List.of(String.format("Category not found with id: '%s'", dto.getCategoryId()));
+            }
+
+            TransactionBatchItemDTO result = TransactionBatchItemDTO.builder()
+                    .index(index)
+                    .created(errors.isEmpty())
+                    .errors(errors.isEmpty() ? null : errors)
+                    .build();
+            results.add(result);
+
+            if (!errors.isEmpty()) {
+                continue;
+            }
+
+            BigDecimal amount = adjustAmountSign(dto.getAmount(), dto.getTransactionType());
+            dailyTotals.computeIfAbsent(dto.getTransactionDate(), date -> new EnumMap<>(TransactionType.class))
+                    .merge(dto.getTransactionType(), Money.of(amount, user.getCurrency()), Money::plus);
+
+            pending.add(Transaction.builder()
+                    .user(user)
+                    .category(category)
+                    .amount(amount)
+                    .description(dto.getDescription())
+                    .transactionDate(dto.getTransactionDate())
+                    .transactionType(dto.getTransactionType())
+                    .paymentMethod(dto.getPaymentMethod())
+                    .notes(dto.getNotes())
+                    .active(true)
+                    .build());
+            pendingResults.add(result);
+            createdCount++;
+
+            if (pending.size() == BATCH_FLUSH_SIZE) {
+                flushBatch(pending, pendingResults);
+            }
+        }
+        flushBatch(pending, pendingResults);
+
+        log.info("Batch created {} of {} transactions for user {}", createdCount, dtos.size(), user.getId());
+
+        if (createdCount > 0) {
+            List<TotalsDelta> deltas = new ArrayList<>();
+            dailyTotals.forEach((date, totals) -> totals.forEach((type, amount) ->
+                    deltas.add(new TotalsDelta(date, type, amount))));
+            eventPublisher.publishEvent(new TransactionChangeEvent(
+                    ChangeType.BATCH_CREATED, user.getId(), null, null, deltas));
+        }
+
+        return TransactionBatchResultDTO.builder()
+                .totalCount(dtos.size())
+                .createdCount(createdCount)
+                .failedCount(dtos.size() - createdCount)
+                .results(results)
+                .build();
     }
 
     @Override
     @Transactional
+    @RetryOnCounterContention
     public TransactionResponseDTO updateTransaction(Long id, TransactionUpdateDTO dto, User user) {
         log.debug("Updating transaction {} for user: {}", id, user.getId());
 
@@ -83,11 +247,26 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = transactionRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
+        // Reject edits based on a stale read before touching any counters
+        if (dto.getVersion() != null && !dto.getVersion().equals(transaction.getVersion())) {
+            throw new ConflictException("Transaction " + id + " was modified by another request");
+        }
+
+        // Take the current values out of the monthly rollup before they change; the budget
+        // moves in one call after the save, from a copy of the previous values
+        boolean active = Boolean.TRUE.equals(transaction.getActive());
+        TotalsDelta reversed = totalsDelta(transaction, user, true);
+        Transaction previous = countedFieldsOf(transaction);
+        if (active) {
+            transactionRollupService.reverseTransaction(transaction);
+        }
+
         // Update category if provided
+        CategoryDTO newCategory = null;
         if (dto.getCategoryId() != null) {
-            Category category = categoryRepository.findByIdAndUserId(dto.getCategoryId(), user.getId())
+            newCategory = categoryCacheService.getCategory(user.getId(), dto.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category", "id", dto.getCategoryId()));
-            transaction.setCategory(category);
+            transaction.setCategory(categoryRepository.getReferenceById(newCategory.getId()));
         }
 
         // Update amount and type
@@ -117,25 +296,44 @@ public class TransactionServiceImpl implements TransactionService {
             transaction.setNotes(dto.getNotes());
         }
 
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        // Flush so a concurrent edit fails here and the response carries the new version
+        Transaction updatedTransaction = transactionRepository.saveAndFlush(transaction);
+        if (active) {
+            transactionRollupService.recordTransaction(updatedTransaction);
+            budgetTrackingService.replaceTransaction(previous, updatedTransaction);
+        }
         log.info("Transaction {} updated successfully", id);
 
-        return mapToResponseDTO(updatedTransaction);
+        TransactionResponseDTO response = newCategory != null
+                ? mapToResponseDTO(updatedTransaction, newCategory)
+                : mapToResponseDTO(updatedTransaction);
+        eventPublisher.publishEvent(new TransactionChangeEvent(ChangeType.UPDATED, user.getId(), id, response,
+                active ? List.of(reversed, totalsDelta(updatedTransaction, user, false)) : List.of()));
+        return response;
     }
 
     @Override
     @Transactional
+    @RetryOnCounterContention
     public void deleteTransaction(Long id, User user) {
         log.debug("Deleting transaction {} for user: {}", id, user.getId());
 
         Transaction transaction = transactionRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
+        boolean active = Boolean.TRUE.equals(transaction.getActive());
+        if (active) {
+            transactionRollupService.reverseTransaction(transaction);
+            budgetTrackingService.reverseTransaction(transaction);
+        }
+
         // Soft delete
         transaction.setActive(false);
         transactionRepository.save(transaction);
 
         log.info("Transaction {} deleted successfully (soft delete)", id);
+        eventPublisher.publishEvent(new TransactionChangeEvent(ChangeType.DELETED, user.getId(), id, null,
+                active ? List.of(totalsDelta(transaction, user, true)) : List.of()));
     }
 
     @Override
@@ -152,12 +350,10 @@ public class TransactionServiceImpl implements TransactionService {
     public Page<TransactionSummaryDTO> getUserTransactions(User user, Pageable pageable) {
         log.debug("Getting transactions for user: {}", user.getId());
 
-        Page<Transaction> transactions = transactionRepository.findByUserIdAndActiveTrue(
+        return transactionRepository.findSummariesByUserId(
                 user.getId(), 
                 pageable
         );
-
-        return transactions.map(this::mapToSummaryDTO);
     }
 
     @Override
@@ -174,15 +370,12 @@ public class TransactionServiceImpl implements TransactionService {
             throw new BadRequestException("Start date must be before or equal to end date");
         }
 
-        Page<Transaction> transactions = transactionRepository
-                .findByUserIdAndActiveTrueAndTransactionDateBetween(
-                        user.getId(), 
-                        startDate, 
-                        endDate, 
-                        pageable
-                );
-
-        return transactions.map(this::mapToSummaryDTO);
+        return transactionRepository.findSummariesByUserIdAndDateRange(
+                user.getId(), 
+                startDate, 
+                endDate, 
+                pageable
+        );
     }
 
     @Override
@@ -193,32 +386,145 @@ public class TransactionServiceImpl implements TransactionService {
         
         log.debug("Getting transactions for user {} in category {}", user.getId(), categoryId);
 
-        // Verify category belongs to user
-        categoryRepository.findByIdAndUserId(categoryId, user.getId())
+        // Verify category belongs to user (served from the category cache)
+        categoryCacheService.getCategory(user.getId(), categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
 
-        Page<Transaction> transactions = transactionRepository.findByUserIdAndCategoryId(
+        return transactionRepository.findSummariesByUserIdAndCategoryId(
                 user.getId(), 
                 categoryId, 
                 pageable
         );
+    }
+
+    @Override
+    public Page<TransactionSummaryDTO> searchTransactions(
+            User user, 
+            TransactionSearchCriteria criteria, 
+            Pageable pageable) {
+        
+        log.debug("Searching transactions for user {} with {}", user.getId(), criteria);
+
+        if (criteria.getStartDate() != null && criteria.getEndDate() != null
+                && criteria.getStartDate().isAfter(criteria.getEndDate())) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+        if ((criteria.getMinAmount() != null && criteria.getMinAmount().signum() < 0)
+                || (criteria.getMaxAmount() != null && criteria.getMaxAmount().signum() < 0)) {
+            throw new BadRequestException("Amount bounds must not be negative");
+        }
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount().compareTo(criteria.getMaxAmount()) > 0) {
+            throw new BadRequestException("Minimum amount must be less than or equal to maximum amount");
+        }
+        if (criteria.hasCategories() && criteria.getCategoryIds().size() > MAX_SEARCH_CATEGORIES) {
+            throw new BadRequestException("At most " + MAX_SEARCH_CATEGORIES + " categories can be searched at once");
+        }
+        if (criteria.hasText() && criteria.getText().length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new BadRequestException("Search text must not exceed " + MAX_SEARCH_TEXT_LENGTH + " characters");
+        }
+
+        return transactionRepository.search(user.getId(), criteria, pageable);
+    }
+
+    @Override
+    public Page<TransactionSummaryDTO> searchTransactionsByText(User user, String query, Pageable pageable) {
+        log.debug("Full-text searching transactions for user {}", user.getId());
+
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new BadRequestException("Search text must not exceed " + MAX_SEARCH_TEXT_LENGTH + " characters");
+        }
+
+        // Rank and page on the indexes first, then project only the rows of this page
+        Page<Long> ids = transactionRepository.searchIdsByText(
+                user.getId(), query.trim(), TransactionSearchRepository.containsPattern(query), pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, TransactionSummaryDTO> summaries = transactionRepository
+                .findSummariesByUserIdAndIdIn(user.getId(), ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(TransactionSummaryDTO::getId, summary -> summary));
+        List<TransactionSummaryDTO> content = ids.getContent().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    @Override
+    public Slice<TransactionSummaryDTO> getUserTransactions(User user, TransactionCursor cursor, int size) {
+        log.debug("Getting transactions for user {} after cursor {}", user.getId(), cursor);
+
+        return transactionRepository.findActiveAfterCursor(
+                user.getId(), 
+                cursor.getTransactionDate(), 
+                cursor.getId(), 
+                cursorPage(size)
+        );
+    }
+
+    @Override
+    public Slice<TransactionSummaryDTO> getTransactionsByDateRange(
+            User user, 
+            LocalDate startDate, 
+            LocalDate endDate, 
+            TransactionCursor cursor, 
+            int size) {
+        
+        log.debug("Getting transactions for user {} between {} and {} after cursor {}", 
+                user.getId(), startDate, endDate, cursor);
+
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+
+        return transactionRepository.findActiveByDateRangeAfterCursor(
+                user.getId(), 
+                startDate, 
+                endDate, 
+                cursor.getTransactionDate(), 
+                cursor.getId(), 
+                cursorPage(size)
+        );
+    }
+
+    @Override
+    public Slice<TransactionSummaryDTO> getTransactionsByCategory(
+            User user, 
+            Long categoryId, 
+            TransactionCursor cursor, 
+            int size) {
+        
+        log.debug("Getting transactions for user {} in category {} after cursor {}", 
+                user.getId(), categoryId, cursor);
+
+        // Verify category belongs to user (served from the category cache)
+        categoryCacheService.getCategory(user.getId(), categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
 
-        return transactions.map(this::mapToSummaryDTO);
+        return transactionRepository.findActiveByCategoryAfterCursor(
+                user.getId(), 
+                categoryId, 
+                cursor.getTransactionDate(), 
+                cursor.getId(), 
+                cursorPage(size)
+        );
     }
 
     @Override
     public List<TransactionSummaryDTO> getRecentTransactions(User user, int limit) {
         log.debug("Getting {} recent transactions for user: {}", limit, user.getId());
 
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("transactionDate").descending());
-        Page<Transaction> transactions = transactionRepository.findRecentTransactions(
+        return transactionRepository.findRecentSummaries(
                 user.getId(), 
-                pageable
+                PageRequest.ofSize(limit)
         );
-
-        return transactions.getContent().stream()
-                .map(this::mapToSummaryDTO)
-                .collect(Collectors.toList());
     }
 
     @Override
@@ -226,8 +532,9 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("Calculating total income for user {} between {} and {}", 
                 user.getId(), startDate, endDate);
 
-        return transactionRepository.calculateTotalIncomeByDateRange(
+        return transactionLedgerService.calculateTotal(
                 user.getId(), 
+                TransactionType.INCOME, 
                 startDate, 
                 endDate
         );
@@ -238,8 +545,9 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("Calculating total expenses for user {} between {} and {}", 
                 user.getId(), startDate, endDate);
 
-        return transactionRepository.calculateTotalExpensesByDateRange(
+        return transactionLedgerService.calculateTotal(
                 user.getId(), 
+                TransactionType.EXPENSE, 
                 startDate, 
                 endDate
         );
@@ -254,20 +562,11 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("Getting expenses by category for user {} between {} and {}", 
                 user.getId(), startDate, endDate);
 
-        List<Object[]> results = transactionRepository.getExpensesByCategoryGrouped(
+        return transactionRollupService.getExpensesByCategory(
                 user.getId(), 
                 startDate, 
                 endDate
         );
-
-        Map<String, BigDecimal> expensesByCategory = new LinkedHashMap<>();
-        for (Object[] result : results) {
-            String categoryName = (String) result[0];
-            BigDecimal amount = (BigDecimal) result[1];
-            expensesByCategory.put(categoryName, amount);
-        }
-
-        return expensesByCategory;
     }
 
     @Override
@@ -286,19 +585,111 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    /**
+     * Runs Bean Validation on a batch row and returns "field: message" errors
+     */
+    private List<String> validateBatchRow(TransactionCreateDTO dto) {
+        if (dto == null) {
+            return List.of("Transaction must not be null");
+        }
+        Set<ConstraintViolation<TransactionCreateDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return List.of();
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Persists a chunk of batch rows and detaches them so the persistence context stays small
+     * IDs come from the pooled sequence at persist time, so inserts are batched on flush
+     */
+    private void flushBatch(List<Transaction> pending, List<TransactionBatchItemDTO> pendingResults) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        transactionRepository.saveAll(pending);
+        transactionRollupService.recordTransactions(pending);
+        budgetTrackingService.recordTransactions(pending);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < pending.size(); i++) {
+            pendingResults.get(i).setId(pending.get(i).getId());
+        }
+
+        pending.clear();
+        pendingResults.clear();
+    }
+
+    /**
+     * Contribution of a transaction to its day's totals, or its removal when reversed
+     */
+    private static TotalsDelta totalsDelta(Transaction transaction, User user, boolean reverse) {
+        Money amount = Money.of(transaction.getAmount(), user.getCurrency());
+        return new TotalsDelta(transaction.getTransactionDate(), transaction.getTransactionType(),
+                reverse ? amount.negate() : amount);
+    }
+
+    /**
+     * First page request of a keyset listing, rejecting sizes that would turn it into a full scan
+     */
+    private static Pageable cursorPage(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return PageRequest.ofSize(size);
+    }
+
+    /**
+     * Detached copy of the fields budget tracking depends on, taken before an edit
+     */
+    private static Transaction countedFieldsOf(Transaction transaction) {
+        return Transaction.builder()
+                .user(transaction.getUser())
+                .category(transaction.getCategory())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .transactionType(transaction.getTransactionType())
+                .build();
+    }
+
     /**
      * Adjusts amount sign based on transaction type
      * Income: positive, Expense: negative
+     * (package-private for the JMH benchmarks)
      */
-    private BigDecimal adjustAmountSign(BigDecimal amount, TransactionType type) {
-        BigDecimal absoluteAmount = amount.abs();
-        return type == TransactionType.INCOME ? absoluteAmount : absoluteAmount.negate();
+    static BigDecimal adjustAmountSign(BigDecimal amount, TransactionType type) {
+        // Already signed correctly (the common case) returns the same instance
+        boolean negative = type == TransactionType.EXPENSE;
+        return amount.signum() == 0 || (amount.signum() < 0) == negative ? amount : amount.negate();
     }
 
     /**
      * Maps Transaction entity to TransactionResponseDTO
+     * (package-private for the JMH benchmarks)
+     */
+    static TransactionResponseDTO mapToResponseDTO(Transaction transaction) {
+        Category category = transaction.getCategory();
+        return mapToResponseDTO(transaction, category.getId(), category.getName(),
+                category.getColor(), category.getIcon());
+    }
+
+    /**
+     * Maps Transaction entity to TransactionResponseDTO using cached category details
+     * (avoids initialising the category reference)
      */
-    private TransactionResponseDTO mapToResponseDTO(Transaction transaction) {
+    private static TransactionResponseDTO mapToResponseDTO(Transaction transaction, CategoryDTO category) {
+        return mapToResponseDTO(transaction, category.getId(), category.getName(),
+                category.getColor(), category.getIcon());
+    }
+
+    private static TransactionResponseDTO mapToResponseDTO(Transaction transaction, Long categoryId,
+                                                           String categoryName, String categoryColor,
+                                                           String categoryIcon) {
         return TransactionResponseDTO.builder()
                 .id(transaction.getId())
                 .amount(transaction.getAmount())
@@ -308,32 +699,15 @@ public class TransactionServiceImpl implements TransactionService {
                 .transactionType(transaction.getTransactionType())
                 .paymentMethod(transaction.getPaymentMethod())
                 .notes(transaction.getNotes())
-                .categoryId(transaction.getCategory().getId())
-                .categoryName(transaction.getCategory().getName())
-                .categoryColor(transaction.getCategory().getColor())
-                .categoryIcon(transaction.getCategory().getIcon())
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .categoryColor(categoryColor)
+                .categoryIcon(categoryIcon)
                 .userId(transaction.getUser().getId())
                 .createdAt(transaction.getCreatedAt())
                 .updatedAt(transaction.getUpdatedAt())
                 .active(transaction.getActive())
-                .build();
-    }
-
-    /**
-     * Maps Transaction entity to TransactionSummaryDTO
-     */
-    private TransactionSummaryDTO mapToSummaryDTO(Transaction transaction) {
-        return TransactionSummaryDTO.builder()
-                .id(transaction.getId())
-                .amount(transaction.getAmount())
-                .absoluteAmount(transaction.getAbsoluteAmount())
-                .description(transaction.getDescription())
-                .transactionDate(transaction.getTransactionDate())
-                .transactionType(transaction.getTransactionType())
-                .categoryId(transaction.getCategory().getId())
-                .categoryName(transaction.getCategory().getName())
-                .categoryColor(transaction.getCategory().getColor())
-                .categoryIcon(transaction.getCategory().getIcon())
+                .version(transaction.getVersion())
                 .build();
     }
 }
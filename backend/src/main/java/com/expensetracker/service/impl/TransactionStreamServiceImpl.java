@@ -0,0 +1,219 @@
+package com.expensetracker.service.impl;
+
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.service.TransactionStreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of TransactionStreamService
+ * Each subscriber owns a bounded buffer drained by the shared stream executor, one
+ * drain task at a time. Publishing only serializes the event once and enqueues it,
+ * so a slow client cannot stall the committing thread or other clients; a client
+ * whose buffer overflows is disconnected and reconnects through EventSource.
+ */
+@Service
+@Slf4j
+public class TransactionStreamServiceImpl implements TransactionStreamService {
+
+    static final String CHANGE_EVENT = "transaction";
+
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final int bufferSize;
+    private final int maxPerUser;
+
+    private final Counter evictedCounter;
+
+    public TransactionStreamServiceImpl(
+            @Qualifier("transactionStreamExecutor") Executor executor,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.stream.timeout:30m}") Duration timeout,
+            @Value("${app.stream.reconnect-delay:3s}") Duration reconnectDelay,
+            @Value("${app.stream.buffer-size:64}") int bufferSize,
+            @Value("${app.stream.max-per-user:5}") int maxPerUser) {
+
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+
+        Gauge.builder("transaction.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open transaction change streams")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("transaction.stream.evicted")
+                .description("Streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        List<Subscriber> displaced = new ArrayList<>(1);
+        subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> list = current != null ? current : new CopyOnWriteArrayList<>();
+            while (list.size() >= maxPerUser) {
+                displaced.add(list.remove(0));
+            }
+            list.add(subscriber);
+            return list;
+        });
+        subscriberCount.addAndGet(1 - displaced.size());
+        displaced.forEach(Subscriber::close);
+
+        subscriber.offer(SseEmitter.event().comment("connected").reconnectTime(reconnectDelay.toMillis()));
+        log.debug("Opened transaction stream for user {}", userId);
+        return emitter;
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(TransactionChangeEvent event) {
+        List<Subscriber> targets = subscribers.get(event.getUserId());
+        if (targets == null) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize transaction change for user {}", event.getUserId(), ex);
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(SseEmitter.event().name(CHANGE_EVENT).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Override
+    public void sendHeartbeats() {
+        subscribers.values().forEach(list -> list.forEach(subscriber ->
+                subscriber.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void unsubscribe(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            removed.set(list.remove(subscriber));
+            return list.isEmpty() ? null : list;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * One open stream with its bounded send buffer
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                evictedCounter.increment();
+                log.debug("Closing slow transaction stream for user {}", userId);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Sends buffered events until the buffer is empty
+         * The re-check after clearing the flag picks up events offered while it was set
+         */
+        private void drain() {
+            do {
+                SseEventBuilder event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException ex) {
+                        // Client went away; the container reports it, just stop sending
+                        close();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+            unsubscribe(this);
+            emitter.complete();
+        }
+    }
+}
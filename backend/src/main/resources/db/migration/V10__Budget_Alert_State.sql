@@ -0,0 +1,56 @@
+-- ============================================================================
+-- ExpenseTracker Database - Budget Alert State
+-- Version: 10.0
+-- Description: Persists each budget's alert state so alert lookups use an index
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: budgets
+-- Purpose: (spent_amount / limit_amount * 100) >= alert_threshold cannot be
+--          served by an index. alert_state stores its result and is updated in
+--          the same statement as spent_amount; alert_notified_state is the last
+--          state emitted by the alert evaluator.
+-- ============================================================================
+ALTER TABLE budgets ADD COLUMN IF NOT EXISTS alert_state VARCHAR(10) NOT NULL DEFAULT 'OK';
+ALTER TABLE budgets ADD COLUMN IF NOT EXISTS alert_notified_state VARCHAR(10) NOT NULL DEFAULT 'OK';
+
+ALTER TABLE budgets ADD CONSTRAINT check_alert_state_valid
+    CHECK (alert_state IN ('OK', 'THRESHOLD', 'EXCEEDED'));
+ALTER TABLE budgets ADD CONSTRAINT check_alert_notified_state_valid
+    CHECK (alert_notified_state IN ('OK', 'THRESHOLD', 'EXCEEDED'));
+
+-- Same rules as BudgetAlertState.of
+UPDATE budgets
+SET alert_state = CASE
+        WHEN alert_enabled = false THEN 'OK'
+        WHEN spent_amount > limit_amount THEN 'EXCEEDED'
+        WHEN spent_amount * 100 >= limit_amount * alert_threshold THEN 'THRESHOLD'
+        ELSE 'OK'
+    END;
+
+-- Existing states are treated as already emitted
+UPDATE budgets SET alert_notified_state = alert_state;
+
+-- Hot budgets per user: small, and index-only for "which budgets are hot"
+CREATE INDEX IF NOT EXISTS idx_budgets_alert_hot
+ON budgets(user_id, alert_state) INCLUDE (id)
+WHERE active = true AND alert_state <> 'OK';
+
+-- Transitions not yet emitted: empty in steady state
+CREATE INDEX IF NOT EXISTS idx_budgets_alert_pending
+ON budgets(id)
+WHERE alert_state <> alert_notified_state;
+
+-- Superseded by idx_budgets_alert_hot
+DROP INDEX IF EXISTS idx_budgets_alert;
+
+COMMENT ON COLUMN budgets.alert_state IS 'OK, THRESHOLD or EXCEEDED; maintained with spent_amount';
+COMMENT ON COLUMN budgets.alert_notified_state IS 'Last alert state emitted by the alert evaluator';
+COMMENT ON INDEX idx_budgets_alert_hot IS 'Finds budgets at or over their alert threshold';
+COMMENT ON INDEX idx_budgets_alert_pending IS 'Finds budget alert transitions not yet emitted';
+
+ANALYZE budgets;
+
+-- ============================================================================
+-- END OF MIGRATION V10
+-- ============================================================================
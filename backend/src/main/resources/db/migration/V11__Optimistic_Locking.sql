@@ -0,0 +1,23 @@
+-- ============================================================================
+-- ExpenseTracker Database - Optimistic Locking
+-- Version: 11.0
+-- Description: Adds version columns for optimistic locking
+-- ============================================================================
+
+-- ============================================================================
+-- TABLES: transactions, budgets
+-- Purpose: JPA @Version columns. Every update increments the version and is
+--          rejected if the row changed since it was read, so concurrent edits
+--          fail with 409 instead of silently overwriting each other.
+--          A constant default is a catalog-only change in PostgreSQL 11+,
+--          so existing rows are not rewritten.
+-- ============================================================================
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budgets ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN transactions.version IS 'Optimistic lock version, incremented on every update';
+COMMENT ON COLUMN budgets.version IS 'Optimistic lock version, incremented on every update including spent deltas';
+
+-- ============================================================================
+-- END OF MIGRATION V11
+-- ============================================================================
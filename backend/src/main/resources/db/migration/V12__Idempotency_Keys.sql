@@ -0,0 +1,42 @@
+-- ============================================================================
+-- ExpenseTracker Database - Idempotency Keys
+-- Version: 12.0
+-- Description: Stores Idempotency-Key claims and the responses they produced
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: idempotency_keys
+-- Purpose: One row per (user, Idempotency-Key). Keys and request bodies are
+--          stored as SHA-256 digests, so every row is fixed-width apart from
+--          the stored response. A row without response_status is an in-flight
+--          claim; its expires_at is short so that a crashed request frees the
+--          key quickly. Completed rows live for the replay TTL.
+-- ============================================================================
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL,
+    key_hash BYTEA NOT NULL,
+    request_hash BYTEA NOT NULL,
+    response_status SMALLINT,
+    response_body TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (user_id, key_hash),
+    CONSTRAINT fk_idempotency_keys_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT check_idempotency_key_hash_length CHECK (octet_length(key_hash) = 32),
+    CONSTRAINT check_idempotency_request_hash_length CHECK (octet_length(request_hash) = 32)
+);
+
+-- Bulk purge walks expired rows in expires_at order
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires
+ON idempotency_keys(expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Idempotency-Key claims and stored responses for replay';
+COMMENT ON COLUMN idempotency_keys.key_hash IS 'SHA-256 digest of the Idempotency-Key header';
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'SHA-256 digest of request path and body';
+COMMENT ON COLUMN idempotency_keys.response_status IS 'HTTP status of the stored response; NULL while in flight';
+
+-- ============================================================================
+-- END OF MIGRATION V12
+-- ============================================================================
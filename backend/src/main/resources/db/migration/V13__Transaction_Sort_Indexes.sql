@@ -0,0 +1,42 @@
+-- ============================================================================
+-- ExpenseTracker Database - Transaction Sort Indexes
+-- Version: 13.0
+-- Description: One index per supported sort order of the transaction listing
+-- ============================================================================
+
+-- ============================================================================
+-- TRANSACTIONS: sort indexes
+-- Purpose: The listing orders active rows of one user by a whitelisted field
+--          with id as tiebreaker ("ORDER BY <field> <dir>, id <dir>
+--          LIMIT n OFFSET m"). With (user_id, <field>, id) indexed, every page
+--          is an index range scan in either direction instead of a sort of
+--          the user's whole history.
+--          transactionDate is already served by idx_transactions_user_date_id_active (V5)
+-- Note: Non-transactional (V13__Transaction_Sort_Indexes.sql.conf), so the
+--       builds never block writes; see V5 for recovering from a failed build
+-- ============================================================================
+
+-- Use case: "Page of active transactions for user X by amount"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_amount_active
+ON transactions(user_id, amount, id)
+WHERE active = true;
+
+-- Use case: "Page of active transactions for user X, most recently entered first"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_created_active
+ON transactions(user_id, created_at DESC, id DESC)
+WHERE active = true;
+
+-- Use case: "Page of active transactions for user X in description order"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_description_active
+ON transactions(user_id, description, id)
+WHERE active = true;
+
+COMMENT ON INDEX idx_transactions_user_amount_active IS 'Backs the amount sort order of the transaction listing';
+COMMENT ON INDEX idx_transactions_user_created_active IS 'Backs the createdAt sort order of the transaction listing';
+COMMENT ON INDEX idx_transactions_user_description_active IS 'Backs the description sort order of the transaction listing';
+
+ANALYZE transactions;
+
+-- ============================================================================
+-- END OF MIGRATION V13
+-- ============================================================================
@@ -0,0 +1,58 @@
+-- ============================================================================
+-- ExpenseTracker Database - Transaction Search Vector
+-- Version: 14.0
+-- Description: Trigger-maintained search_vector over description and notes
+-- ============================================================================
+
+-- pg_trgm: trigram operator classes for ILIKE '%...%'
+-- btree_gin: lets user_id sit in the same GIN index as the searched column
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- ============================================================================
+-- TRANSACTIONS: search_vector
+-- Purpose: Lexemes of description (weight A) and notes (weight B) under both
+--          the Spanish and English configurations, since the seed data and
+--          most users write in Spanish ("arriendo") but merchant names are
+--          often English ("netflix"). Kept by a trigger, so no application
+--          write path has to maintain it.
+-- Note: A nullable column without a default is a catalog-only change; the
+--       table is not rewritten. Existing rows are filled in by V15 and the
+--       search indexes are built by V16.
+-- ============================================================================
+
+ALTER TABLE transactions
+ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION transactions_search_vector(description TEXT, notes TEXT)
+RETURNS TSVECTOR
+LANGUAGE sql
+IMMUTABLE
+AS $$
+    SELECT setweight(to_tsvector('spanish', coalesce(description, '')), 'A') ||
+           setweight(to_tsvector('english', coalesce(description, '')), 'A') ||
+           setweight(to_tsvector('spanish', coalesce(notes, '')), 'B') ||
+           setweight(to_tsvector('english', coalesce(notes, '')), 'B')
+$$;
+
+CREATE OR REPLACE FUNCTION transactions_search_vector_update()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector := transactions_search_vector(NEW.description, NEW.notes);
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_transactions_search_vector ON transactions;
+CREATE TRIGGER trg_transactions_search_vector
+BEFORE INSERT OR UPDATE OF description, notes ON transactions
+FOR EACH ROW
+EXECUTE FUNCTION transactions_search_vector_update();
+
+COMMENT ON COLUMN transactions.search_vector IS 'Spanish and English lexemes of description (A) and notes (B), maintained by trg_transactions_search_vector';
+
+-- ============================================================================
+-- END OF MIGRATION V14
+-- ============================================================================
@@ -0,0 +1,40 @@
+-- ============================================================================
+-- ExpenseTracker Database - Transaction Search Vector Backfill
+-- Version: 15.0
+-- Description: Fills search_vector for rows written before V14
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: transactions
+-- Purpose: Rows inserted or edited since V14 already carry a search_vector;
+--          everything older is filled in here, in id ranges that commit one
+--          at a time so row locks are held for a single batch only.
+-- Note: Runs outside a transaction (V15__Backfill_Transaction_Search_Vector.sql.conf),
+--       which lets the loop COMMIT. Safe to re-run: filled rows are skipped.
+-- ============================================================================
+DO $$
+DECLARE
+    batch_size CONSTANT BIGINT := 10000;
+    last_id BIGINT := 0;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM transactions;
+
+    WHILE last_id < max_id LOOP
+        UPDATE transactions
+        SET search_vector = transactions_search_vector(description, notes)
+        WHERE id > last_id
+          AND id <= last_id + batch_size
+          AND search_vector IS NULL;
+
+        last_id := last_id + batch_size;
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+ANALYZE transactions;
+
+-- ============================================================================
+-- END OF MIGRATION V15
+-- ============================================================================
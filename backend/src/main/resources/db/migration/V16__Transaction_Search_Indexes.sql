@@ -0,0 +1,39 @@
+-- ============================================================================
+-- ExpenseTracker Database - Transaction Search Indexes
+-- Version: 16.0
+-- Description: Ranked word search and substring search over description and notes
+-- ============================================================================
+
+-- ============================================================================
+-- TRANSACTIONS: search indexes
+-- Purpose: Every search is scoped to one user's active rows, so user_id is a
+--          GIN key next to the searched column and the bitmap never leaves
+--          the user's own matches, however large the table grows
+-- Note: Non-transactional (V16__Transaction_Search_Indexes.sql.conf), so the
+--       builds never block writes; see V5 for recovering from a failed build
+-- ============================================================================
+
+-- Use case: "Active transactions of user X matching the words 'netflix'"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_search_vector
+ON transactions USING GIN (user_id, search_vector)
+WHERE active = true;
+
+-- Use case: "Active transactions of user X whose description contains 'flix'"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_description_trgm
+ON transactions USING GIN (user_id, description gin_trgm_ops)
+WHERE active = true;
+
+-- Use case: "Active transactions of user X whose notes contain 'flix'"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_notes_trgm
+ON transactions USING GIN (user_id, notes gin_trgm_ops)
+WHERE active = true;
+
+COMMENT ON INDEX idx_transactions_user_search_vector IS 'Optimizes ranked full-text search of active transactions';
+COMMENT ON INDEX idx_transactions_user_description_trgm IS 'Optimizes substring search on description of active transactions';
+COMMENT ON INDEX idx_transactions_user_notes_trgm IS 'Optimizes substring search on notes of active transactions';
+
+ANALYZE transactions;
+
+-- ============================================================================
+-- END OF MIGRATION V16
+-- ============================================================================
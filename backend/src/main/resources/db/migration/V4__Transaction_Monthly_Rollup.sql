@@ -0,0 +1,69 @@
+-- ============================================================================
+-- ExpenseTracker Database - Monthly Transaction Rollup
+-- Version: 4.0
+-- Description: Pre-aggregated monthly totals per user, category and type
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: transaction_monthly_rollup
+-- Purpose: Keeps running income/expense totals per month so that dashboard
+--          aggregates only scan raw transactions for partial edge months
+-- ============================================================================
+CREATE TABLE IF NOT EXISTS transaction_monthly_rollup (
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+
+    -- Primary Key
+    CONSTRAINT pk_transaction_monthly_rollup
+        PRIMARY KEY (user_id, category_id, year, month, transaction_type),
+
+    -- Foreign Keys
+    CONSTRAINT fk_rollup_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_rollup_category FOREIGN KEY (category_id)
+        REFERENCES categories(id) ON DELETE CASCADE,
+
+    -- Constraints
+    CONSTRAINT check_rollup_month_valid CHECK (month BETWEEN 1 AND 12),
+    CONSTRAINT check_rollup_transaction_type CHECK (transaction_type IN ('INCOME', 'EXPENSE'))
+);
+
+-- Index for period range lookups across all categories of a user
+-- Use case: "Total income/expenses for user X between month A and month B"
+CREATE INDEX IF NOT EXISTS idx_rollup_user_period
+ON transaction_monthly_rollup(user_id, year, month);
+
+COMMENT ON TABLE transaction_monthly_rollup IS 'Monthly income/expense totals maintained on every transaction write';
+COMMENT ON COLUMN transaction_monthly_rollup.total_amount IS 'Signed sum of active transaction amounts (negative for expenses)';
+COMMENT ON COLUMN transaction_monthly_rollup.transaction_count IS 'Number of active transactions in the bucket';
+
+-- ============================================================================
+-- BACKFILL: Aggregate existing active transactions
+-- ============================================================================
+INSERT INTO transaction_monthly_rollup
+    (user_id, category_id, year, month, transaction_type, total_amount, transaction_count)
+SELECT user_id,
+       category_id,
+       EXTRACT(YEAR FROM transaction_date)::INT,
+       EXTRACT(MONTH FROM transaction_date)::INT,
+       transaction_type,
+       SUM(amount),
+       COUNT(*)
+FROM transactions
+WHERE active = true
+GROUP BY user_id, category_id,
+         EXTRACT(YEAR FROM transaction_date),
+         EXTRACT(MONTH FROM transaction_date),
+         transaction_type
+ON CONFLICT DO NOTHING;
+
+ANALYZE transaction_monthly_rollup;
+
+-- ============================================================================
+-- END OF MIGRATION V4
+-- ============================================================================
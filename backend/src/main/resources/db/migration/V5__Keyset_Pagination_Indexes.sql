@@ -0,0 +1,42 @@
+-- ============================================================================
+-- ExpenseTracker Database - Keyset Pagination Indexes
+-- Version: 5.0
+-- Description: Aligns listing indexes with the (transaction_date, id) cursor
+-- ============================================================================
+
+-- ============================================================================
+-- TRANSACTIONS: seek indexes
+-- Purpose: Cursor pages use "WHERE (transaction_date, id) < (?, ?)
+--          ORDER BY transaction_date DESC, id DESC LIMIT n", which needs the
+--          id tiebreaker in the index to stop after n rows without a sort
+-- ============================================================================
+
+-- Note: Runs outside a transaction (V5__Keyset_Pagination_Indexes.sql.conf) so
+--       every index is built CONCURRENTLY and writes to transactions are never
+--       blocked. A failed concurrent build leaves an INVALID index behind; drop
+--       it before re-running, since IF NOT EXISTS would otherwise keep it.
+
+-- Replace the V3 dashboard index with one that carries id as tiebreaker
+-- (active is implied by the predicate). The new index is built under its own
+-- name first, so queries keep an index to use until the old one is dropped.
+-- Use case: "Next page of active transactions for user X after cursor C"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_date_id_active
+ON transactions(user_id, transaction_date DESC, id DESC)
+WHERE active = true;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_user_date_active;
+
+-- Seek index for category listings
+-- Use case: "Next page of active transactions for user X in category Y after cursor C"
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_category_date_active
+ON transactions(user_id, category_id, transaction_date DESC, id DESC)
+WHERE active = true;
+
+COMMENT ON INDEX idx_transactions_user_date_id_active IS 'Optimizes dashboard queries and keyset pagination of active transactions';
+COMMENT ON INDEX idx_transactions_user_category_date_active IS 'Optimizes keyset pagination of active transactions by category';
+
+ANALYZE transactions;
+
+-- ============================================================================
+-- END OF MIGRATION V5
+-- ============================================================================
@@ -0,0 +1,20 @@
+-- ============================================================================
+-- ExpenseTracker Database - Pooled Transaction IDs
+-- Version: 6.0
+-- Description: Lets Hibernate pre-allocate transaction IDs in blocks of 50
+-- ============================================================================
+
+-- ============================================================================
+-- SEQUENCE: transactions_id_seq
+-- Purpose: With IDENTITY generation Hibernate must execute every INSERT
+--          immediately to learn its ID, which disables JDBC batching. The
+--          entity now uses a pooled sequence generator (allocationSize = 50),
+--          so the sequence increment must match the allocation size.
+--          Plain SQL inserts relying on the column default keep working;
+--          they simply consume a whole block per row.
+-- ============================================================================
+ALTER SEQUENCE transactions_id_seq INCREMENT BY 50;
+
+-- ============================================================================
+-- END OF MIGRATION V6
+-- ============================================================================
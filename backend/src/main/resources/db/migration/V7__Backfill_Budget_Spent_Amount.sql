@@ -0,0 +1,29 @@
+-- ============================================================================
+-- ExpenseTracker Database - Budget Spent Amount Backfill
+-- Version: 7.0
+-- Description: Recomputes budgets.spent_amount from existing expenses
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: budgets
+-- Purpose: spent_amount was never maintained by the application. From now on
+--          every transaction write applies an atomic delta to the matching
+--          budget, so existing rows are brought up to date once here.
+-- ============================================================================
+UPDATE budgets b
+SET spent_amount = COALESCE((
+    SELECT SUM(ABS(t.amount))
+    FROM transactions t
+    WHERE t.user_id = b.user_id
+      AND t.category_id = b.category_id
+      AND t.transaction_type = 'EXPENSE'
+      AND t.active = true
+      AND t.transaction_date >= make_date(b.year, b.month, 1)
+      AND t.transaction_date < make_date(b.year, b.month, 1) + INTERVAL '1 month'
+), 0);
+
+COMMENT ON COLUMN budgets.spent_amount IS 'Sum of active expenses in this budget period, maintained on transaction writes';
+
+-- ============================================================================
+-- END OF MIGRATION V7
+-- ============================================================================
@@ -0,0 +1,37 @@
+-- ============================================================================
+-- ExpenseTracker Database - Session Token Hash
+-- Version: 8.0
+-- Description: Looks sessions up by a fixed-width SHA-256 digest of the JWT
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: user_sessions
+-- Purpose: The unique B-tree on jwt_token (VARCHAR(500)) is large and slow to
+--          probe. Sessions are now looked up by a 32-byte SHA-256 digest of the
+--          token; the raw token column is kept but no longer indexed.
+--          sha256() is built into PostgreSQL 11+.
+-- ============================================================================
+ALTER TABLE user_sessions ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+UPDATE user_sessions
+SET token_hash = sha256(convert_to(jwt_token, 'UTF8'))
+WHERE token_hash IS NULL;
+
+ALTER TABLE user_sessions ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE user_sessions ADD CONSTRAINT check_token_hash_length CHECK (octet_length(token_hash) = 32);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_user_sessions_token_hash
+ON user_sessions(token_hash);
+
+-- Drop the wide indexes on the raw token
+ALTER TABLE user_sessions DROP CONSTRAINT IF EXISTS user_sessions_jwt_token_key;
+DROP INDEX IF EXISTS idx_user_sessions_token;
+
+COMMENT ON COLUMN user_sessions.token_hash IS 'SHA-256 digest of jwt_token, used for session lookups';
+COMMENT ON INDEX idx_user_sessions_token_hash IS 'Fixed-width lookup index replacing the jwt_token index';
+
+ANALYZE user_sessions;
+
+-- ============================================================================
+-- END OF MIGRATION V8
+-- ============================================================================
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- ExpenseTracker Database - Session Reaper Index
+-- Version: 9.0
+-- Description: Supports batched deletion of invalidated sessions
+-- ============================================================================
+
+-- ============================================================================
+-- TABLE: user_sessions
+-- Purpose: Expired active sessions are found through idx_sessions_expired (V3).
+--          Invalidated sessions (active = false) are outside that partial index,
+--          so give the reaper a small partial index of its own instead of a
+--          sequential scan per batch.
+-- ============================================================================
+CREATE INDEX IF NOT EXISTS idx_sessions_inactive
+ON user_sessions(id)
+WHERE active = false;
+
+COMMENT ON INDEX idx_sessions_inactive IS 'Optimizes batched cleanup of invalidated sessions';
+
+-- ============================================================================
+-- END OF MIGRATION V9
+-- ============================================================================
@@ -26,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -172,6 +173,38 @@ class TransactionControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/transactions/batch - Create batch with per-row results")
+    void createTransactionsBatch_MixedRows_Success() throws Exception {
+        // Given
+        TransactionCreateDTO valid = new TransactionCreateDTO();
+        valid.setAmount(new BigDecimal("15.00"));
+        valid.setDescription("Imported coffee");
+        valid.setCategoryId(testCategory.getId());
+        valid.setTransactionType(TransactionType.EXPENSE);
+        valid.setPaymentMethod(PaymentMethod.CARD);
+        valid.setTransactionDate(LocalDate.now());
+
+        TransactionCreateDTO invalid = new TransactionCreateDTO();
+        invalid.setAmount(new BigDecimal("15.00"));
+        invalid.setCategoryId(testCategory.getId());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].created").value(false))
+                .andExpect(jsonPath("$.results[1].errors", not(empty())));
+
+        assert transactionRepository.countByUserIdAndActiveTrue(testUser.getId()) == 1;
+    }
+
     @Test
     @DisplayName("GET /api/v1/transactions - List all transactions with pagination")
     void getAllTransactions_Paginated_Success() throws Exception {
@@ -188,6 +221,31 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/transactions - Sort by a supported field")
+    void getAllTransactions_SortByAmount_Success() throws Exception {
+        // Given
+        createTestTransaction("Lunch", new BigDecimal("-30.00"), TransactionType.EXPENSE);
+        createTestTransaction("Salary", new BigDecimal("2000.00"), TransactionType.INCOME);
+        createTestTransaction("Rent", new BigDecimal("-800.00"), TransactionType.EXPENSE);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions")
+                        .param("sortBy", "amount")
+                        .param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].description", contains("Rent", "Lunch", "Salary")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions - Unsupported sort field returns 400")
+    void getAllTransactions_UnsupportedSort_BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions")
+                        .param("sortBy", "notes"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/v1/transactions/{id} - Get transaction by id")
     void getTransactionById_Success() throws Exception {
@@ -284,6 +342,65 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/transactions/cursor - Walk pages with keyset cursor")
+    void getAllTransactionsByCursor_TwoPages_Success() throws Exception {
+        // Given
+        createTestTransaction("First", new BigDecimal("-10.00"), TransactionType.EXPENSE);
+        createTestTransaction("Second", new BigDecimal("-20.00"), TransactionType.EXPENSE);
+        Transaction newest = createTestTransaction("Third", new BigDecimal("-30.00"), TransactionType.EXPENSE);
+
+        // When - first page
+        String firstPage = mockMvc.perform(get("/api/v1/transactions/cursor")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(newest.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // Then - second page
+        mockMvc.perform(get("/api/v1/transactions/cursor")
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("First"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/cursor - Malformed cursor returns 400")
+    void getAllTransactionsByCursor_InvalidCursor_BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/cursor - Oversized page returns 400")
+    void getAllTransactionsByCursor_OversizedPage_BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/cursor")
+                        .param("size", "1000000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/export - Unsupported format returns 400")
+    void exportTransactions_UnsupportedFormat_BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/export")
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
     // Helper method
     private Transaction createTestTransaction(String description, BigDecimal amount, TransactionType type) {
         Transaction transaction = new Transaction();
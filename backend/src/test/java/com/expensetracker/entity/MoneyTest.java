@@ -0,0 +1,85 @@
+package com.expensetracker.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the fixed-point Money value type
+ */
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    @DisplayName("Should convert decimals to hundredths rounding half-up")
+    void of_RoundsHalfUp() {
+        // When & Then
+        assertThat(Money.of(new BigDecimal("12.345"), "EUR").getMinorUnits()).isEqualTo(1235);
+        assertThat(Money.of(new BigDecimal("-12.345"), "EUR").getMinorUnits()).isEqualTo(-1235);
+        assertThat(Money.of(new BigDecimal("7"), null).getCurrency()).isEqualTo(Money.DEFAULT_CURRENCY);
+    }
+
+    @Test
+    @DisplayName("Should do arithmetic on minor units")
+    void arithmetic() {
+        // Given
+        Money a = Money.ofMinor(1050, EUR);
+        Money b = Money.ofMinor(-300, EUR);
+
+        // When & Then
+        assertThat(a.plus(b)).isEqualTo(Money.ofMinor(750, EUR));
+        assertThat(a.minus(b)).isEqualTo(Money.ofMinor(1350, EUR));
+        assertThat(b.abs()).isEqualTo(Money.ofMinor(300, EUR));
+        assertThat(a.isGreaterThan(b)).isTrue();
+        assertThat(b.toBigDecimal()).isEqualTo(new BigDecimal("-3.00"));
+    }
+
+    @Test
+    @DisplayName("Should reject mixing currencies")
+    void plus_DifferentCurrency_Throws() {
+        // When & Then
+        assertThatThrownBy(() -> Money.ofMinor(100, EUR).plus(Money.ofMinor(100, Money.DEFAULT_CURRENCY)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Currency mismatch");
+    }
+
+    @Test
+    @DisplayName("Should compute percentages like BigDecimal HALF_UP at scale 2")
+    void percentBasisPoints_MatchesBigDecimal() {
+        // Given
+        long[][] cases = {{41237, 50000}, {1, 3}, {2, 3}, {-1, 3}, {100, 0}, {99999, 7}};
+
+        for (long[] c : cases) {
+            BigDecimal expected = c[1] == 0
+                    ? BigDecimal.ZERO.setScale(2)
+                    : BigDecimal.valueOf(c[0]).multiply(BigDecimal.valueOf(100))
+                            .divide(BigDecimal.valueOf(c[1]), 2, RoundingMode.HALF_UP);
+
+            // When & Then
+            assertThat(BigDecimal.valueOf(Money.percentBasisPoints(c[0], c[1]), 2)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the plain decimal JSON wire format")
+    void json_RoundTrip() throws Exception {
+        // Given
+        ObjectMapper mapper = new ObjectMapper();
+
+        // When
+        String json = mapper.writeValueAsString(Money.ofMinor(-1230, Money.DEFAULT_CURRENCY));
+
+        // Then
+        assertThat(json).isEqualTo("-12.30");
+        assertThat(mapper.readValue(json, Money.class)).isEqualTo(Money.ofMinor(-1230, Money.DEFAULT_CURRENCY));
+        assertThat(mapper.readValue("\"4.5\"", Money.class).getMinorUnits()).isEqualTo(450);
+    }
+}
@@ -1,7 +1,9 @@
 package com.expensetracker.exception;
 
 import com.expensetracker.dto.request.TransactionCreateDTO;
+import com.expensetracker.dto.request.TransactionUpdateDTO;
 import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Transaction;
 import com.expensetracker.entity.User;
 import com.expensetracker.entity.enums.PaymentMethod;
 import com.expensetracker.entity.enums.TransactionType;
@@ -123,6 +125,32 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    @DisplayName("Should handle ConflictException with 409 for a stale version")
+    void handleConflictException() throws Exception {
+        // Given - A transaction at version 0, updated with an older expected version
+        Transaction transaction = transactionRepository.saveAndFlush(Transaction.builder()
+                .user(testUser)
+                .category(testCategory)
+                .amount(new BigDecimal("-50.00"))
+                .description("Lunch")
+                .transactionDate(LocalDate.now())
+                .transactionType(TransactionType.EXPENSE)
+                .paymentMethod(PaymentMethod.CASH)
+                .build());
+        TransactionUpdateDTO dto = new TransactionUpdateDTO();
+        dto.setDescription("Dinner");
+        dto.setVersion(transaction.getVersion() + 1);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/transactions/{id}", transaction.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
     @Test
     @DisplayName("Should handle MethodArgumentNotValidException with validation errors")
     void handleValidationException() throws Exception {
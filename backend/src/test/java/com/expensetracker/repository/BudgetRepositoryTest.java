@@ -0,0 +1,120 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.config.JpaConfig;
+import com.expensetracker.dto.response.BudgetStatusDTO;
+import com.expensetracker.entity.Budget;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.BudgetAlertState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Repository tests for BudgetRepository
+ * Runs on the H2 datasource from application-test.yml: its NON_KEYWORDS=YEAR,MONTH
+ * is needed for the budgets month/year columns
+ */
+@DataJpaTest
+@Import(JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("BudgetRepository Tests")
+class BudgetRepositoryTest {
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User testUser;
+    private Category food;
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setEmail("budget@test.com");
+        testUser.setUsername("budgetuser");
+        testUser.setPasswordHash("hashedpassword");
+        testUser.setFirstName("Budget");
+        testUser.setLastName("User");
+        testUser.setActive(true);
+        testUser = userRepository.save(testUser);
+
+        food = categoryRepository.save(category("Food"));
+        rent = categoryRepository.save(category("Rent"));
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(testUser);
+        category.setActive(true);
+        return category;
+    }
+
+    private Budget budget(Category category, String limit, String spent, int month) {
+        return budgetRepository.save(Budget.builder()
+                .user(testUser)
+                .category(category)
+                .limitAmount(new BigDecimal(limit))
+                .spentAmount(new BigDecimal(spent))
+                .year(2024)
+                .month(month)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should return status of the period's budgets with categories in one projection")
+    void findStatusByUserAndPeriod() {
+        // Given
+        budget(rent, "1000.00", "250.00", 3);
+        budget(food, "200.00", "170.00", 3);
+        budget(food, "200.00", "10.00", 4);
+
+        // When
+        List<BudgetStatusDTO> status = budgetRepository.findStatusByUserAndPeriod(testUser.getId(), 2024, 3);
+
+        // Then
+        assertThat(status).extracting(BudgetStatusDTO::getCategoryName).containsExactly("Food", "Rent");
+        BudgetStatusDTO foodStatus = status.get(0);
+        assertThat(foodStatus.getRemainingAmount()).isEqualByComparingTo("30.00");
+        assertThat(foodStatus.getPercentageUsed()).isEqualByComparingTo("85.00");
+        assertThat(foodStatus.getAlertState()).isEqualTo(BudgetAlertState.THRESHOLD);
+        assertThat(status.get(1).getAlertState()).isEqualTo(BudgetAlertState.OK);
+    }
+
+    @Test
+    @DisplayName("Should maintain alert state when applying spent deltas")
+    void applySpentDelta_UpdatesAlertState() {
+        // Given
+        budget(food, "100.00", "50.00", 5);
+
+        // When / Then
+        budgetRepository.applySpentDelta(testUser.getId(), food.getId(), 5, 2024, new BigDecimal("60.00"));
+        assertThat(budgetRepository.findStatusByUserAndPeriod(testUser.getId(), 2024, 5).get(0).getAlertState())
+                .isEqualTo(BudgetAlertState.EXCEEDED);
+        assertThat(budgetRepository.findBudgetsReachedAlertThreshold(testUser.getId())).hasSize(1);
+
+        budgetRepository.applySpentDelta(testUser.getId(), food.getId(), 5, 2024, new BigDecimal("-200.00"));
+        BudgetStatusDTO status = budgetRepository.findStatusByUserAndPeriod(testUser.getId(), 2024, 5).get(0);
+        assertThat(status.getSpentAmount()).isEqualByComparingTo("0");
+        assertThat(status.getAlertState()).isEqualTo(BudgetAlertState.OK);
+        assertThat(budgetRepository.findBudgetsReachedAlertThreshold(testUser.getId())).isEmpty();
+    }
+}
@@ -1,5 +1,9 @@
 package com.expensetracker.repository;
 
+import com.expensetracker.config.JpaConfig;
+import com.expensetracker.dto.request.TransactionSearchCriteria;
+import com.expensetracker.dto.response.TransactionExportDTO;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.Category;
 import com.expensetracker.entity.Transaction;
 import com.expensetracker.entity.User;
@@ -12,11 +16,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -25,6 +32,7 @@ import static org.assertj.core.api.Assertions.*;
  * Uses @DataJpaTest for fast repository layer testing
  */
 @DataJpaTest
+@Import(JpaConfig.class)
 @ActiveProfiles("test")
 @DisplayName("TransactionRepository Tests")
 class TransactionRepositoryTest {
@@ -223,6 +231,125 @@ class TransactionRepositoryTest {
         assertThat(result.getTotalElements()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Should project active transactions with category into summary DTOs")
+    void findSummariesByUserId_Success() {
+        // Given
+        createTransaction("Lunch", new BigDecimal("-30.00"), TransactionType.EXPENSE, true);
+        createTransaction("Salary", new BigDecimal("2000.00"), TransactionType.INCOME, true);
+        createTransaction("Deleted", new BigDecimal("-10.00"), TransactionType.EXPENSE, false);
+
+        // When
+        Page<TransactionSummaryDTO> result = transactionRepository.findSummariesByUserId(
+                testUser.getId(), PageRequest.of(0, 10, Sort.by("amount").ascending()));
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(TransactionSummaryDTO::getDescription)
+                .containsExactly("Lunch", "Salary");
+        TransactionSummaryDTO lunch = result.getContent().get(0);
+        assertThat(lunch.getCategoryName()).isEqualTo("Food");
+        assertThat(lunch.getCategoryColor()).isEqualTo("#FF5733");
+        assertThat(lunch.getAbsoluteAmount()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    @DisplayName("Should search active transactions combining type, amount, date and text filters")
+    void search_CombinedFilters() {
+        // Given
+        LocalDate today = LocalDate.now();
+        createTransaction("Netflix subscription", new BigDecimal("-15.99"), TransactionType.EXPENSE, today, true);
+        createTransaction("Netflix 4K upgrade", new BigDecimal("-120.00"), TransactionType.EXPENSE, today, true);
+        createTransaction("Netflix refund", new BigDecimal("15.99"), TransactionType.INCOME, today, true);
+        createTransaction("Old netflix", new BigDecimal("-15.99"), TransactionType.EXPENSE, today.minusYears(1), true);
+        createTransaction("Deleted netflix", new BigDecimal("-15.99"), TransactionType.EXPENSE, today, false);
+        TransactionSearchCriteria criteria = TransactionSearchCriteria.builder()
+                .startDate(today.minusDays(30))
+                .endDate(today)
+                .categoryIds(List.of(testCategory.getId()))
+                .transactionType(TransactionType.EXPENSE)
+                .minAmount(new BigDecimal("10.00"))
+                .maxAmount(new BigDecimal("50.00"))
+                .text("NETFLIX")
+                .build();
+
+        // When
+        Page<TransactionSummaryDTO> result = transactionRepository.search(
+                testUser.getId(), criteria, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(TransactionSummaryDTO::getDescription)
+                .containsExactly("Netflix subscription");
+    }
+
+    @Test
+    @DisplayName("Should search by absolute amount when no type is given and treat LIKE wildcards literally")
+    void search_AbsoluteAmountAndLiteralText() {
+        // Given
+        createTransaction("Rent 100%", new BigDecimal("-800.00"), TransactionType.EXPENSE, true);
+        createTransaction("Rent 100 percent", new BigDecimal("-800.00"), TransactionType.EXPENSE, true);
+        createTransaction("Salary", new BigDecimal("900.00"), TransactionType.INCOME, true);
+
+        // When
+        Page<TransactionSummaryDTO> byAmount = transactionRepository.search(testUser.getId(),
+                TransactionSearchCriteria.builder().minAmount(new BigDecimal("850.00")).build(), PageRequest.of(0, 10));
+        Page<TransactionSummaryDTO> byText = transactionRepository.search(testUser.getId(),
+                TransactionSearchCriteria.builder().text("100%").build(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(byAmount.getContent()).extracting(TransactionSummaryDTO::getDescription)
+                .containsExactly("Salary");
+        assertThat(byText.getContent()).extracting(TransactionSummaryDTO::getDescription)
+                .containsExactly("Rent 100%");
+    }
+
+    @Test
+    @DisplayName("Should stream active transactions for export oldest first")
+    void streamForExport_Success() {
+        // Given
+        LocalDate today = LocalDate.now();
+        createTransaction("Old", new BigDecimal("-10.00"), TransactionType.EXPENSE, today.minusDays(5), true);
+        createTransaction("New", new BigDecimal("2000.00"), TransactionType.INCOME, today, true);
+        createTransaction("Deleted", new BigDecimal("-30.00"), TransactionType.EXPENSE, today, false);
+
+        // When
+        List<TransactionExportDTO> result;
+        try (Stream<TransactionExportDTO> stream = transactionRepository.streamForExport(
+                testUser.getId(), today.minusDays(10), today)) {
+            result = stream.toList();
+        }
+
+        // Then
+        assertThat(result).extracting(TransactionExportDTO::getDescription)
+                .containsExactly("Old", "New");
+        assertThat(result.get(0).getCategoryName()).isEqualTo("Food");
+        assertThat(result.get(0).getPaymentMethod()).isEqualTo(PaymentMethod.CARD);
+    }
+
+    @Test
+    @DisplayName("Should aggregate income, expenses and count per category in one scan")
+    void aggregateByCategoryAndDateRange_Success() {
+        // Given
+        LocalDate today = LocalDate.now();
+        createTransaction("Salary", new BigDecimal("1000.00"), TransactionType.INCOME, today, true);
+        createTransaction("Lunch", new BigDecimal("-30.00"), TransactionType.EXPENSE, today, true);
+        createTransaction("Dinner", new BigDecimal("-20.00"), TransactionType.EXPENSE, today, true);
+        createTransaction("Deleted", new BigDecimal("-99.00"), TransactionType.EXPENSE, today, false);
+
+        // When
+        List<Object[]> result = transactionRepository.aggregateByCategoryAndDateRange(
+                testUser.getId(), today.minusDays(1), today);
+
+        // Then
+        assertThat(result).hasSize(1);
+        Object[] row = result.get(0);
+        assertThat(row[0]).isEqualTo(testCategory.getId());
+        assertThat((BigDecimal) row[1]).isEqualByComparingTo("1000.00");
+        assertThat((BigDecimal) row[2]).isEqualByComparingTo("-50.00");
+        assertThat(((Number) row[3]).longValue()).isEqualTo(3);
+    }
+
     // Helper methods
     private Transaction createTransaction(String description, BigDecimal amount, 
                                          TransactionType type, boolean active) {
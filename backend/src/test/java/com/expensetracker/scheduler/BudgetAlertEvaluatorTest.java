@@ -0,0 +1,89 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.entity.enums.BudgetAlertState;
+import com.expensetracker.event.BudgetAlertEvent;
+import com.expensetracker.repository.BudgetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.expensetracker.entity.enums.BudgetAlertState.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetAlertEvaluator and BudgetAlertState
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetAlertEvaluator Unit Tests")
+class BudgetAlertEvaluatorTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BudgetAlertEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new BudgetAlertEvaluator(budgetRepository, eventPublisher, new SimpleMeterRegistry(), 2);
+    }
+
+    private BudgetAlertEvent transition(long budgetId, BudgetAlertState from, BudgetAlertState to) {
+        return new BudgetAlertEvent(budgetId, 1L, 1L, 2024, 1, from, to);
+    }
+
+    @Test
+    @DisplayName("Should publish only the transitions it manages to claim")
+    void evaluate_PublishesClaimedTransitionsOnly() {
+        // Given
+        BudgetAlertEvent claimed = transition(1L, OK, THRESHOLD);
+        BudgetAlertEvent lost = transition(2L, THRESHOLD, EXCEEDED);
+        when(budgetRepository.findPendingAlertTransitions(any()))
+                .thenReturn(List.of(claimed, lost))
+                .thenReturn(List.of());
+        when(budgetRepository.markAlertNotified(1L, OK, THRESHOLD)).thenReturn(1);
+        when(budgetRepository.markAlertNotified(2L, THRESHOLD, EXCEEDED)).thenReturn(0);
+
+        // When
+        int emitted = evaluator.evaluate();
+
+        // Then
+        assertThat(emitted).isEqualTo(1);
+        verify(eventPublisher).publishEvent(claimed);
+        verify(eventPublisher, never()).publishEvent(lost);
+    }
+
+    @Test
+    @DisplayName("Should stop without publishing when nothing is pending")
+    void evaluate_NothingPending() {
+        when(budgetRepository.findPendingAlertTransitions(any())).thenReturn(List.of());
+
+        assertThat(evaluator.evaluate()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should compute alert states from spend, limit, threshold and alert flag")
+    void alertState_Rules() {
+        BigDecimal limit = new BigDecimal("100.00");
+        BigDecimal threshold = new BigDecimal("80.00");
+
+        assertThat(BudgetAlertState.of(new BigDecimal("79.99"), limit, threshold, true)).isEqualTo(OK);
+        assertThat(BudgetAlertState.of(new BigDecimal("80.00"), limit, threshold, true)).isEqualTo(THRESHOLD);
+        assertThat(BudgetAlertState.of(new BigDecimal("100.00"), limit, threshold, true)).isEqualTo(THRESHOLD);
+        assertThat(BudgetAlertState.of(new BigDecimal("100.01"), limit, threshold, true)).isEqualTo(EXCEEDED);
+        assertThat(BudgetAlertState.of(new BigDecimal("150.00"), limit, threshold, false)).isEqualTo(OK);
+    }
+}
@@ -0,0 +1,69 @@
+package com.expensetracker.scheduler;
+
+import com.expensetracker.repository.UserSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExpiredSessionReaper
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredSessionReaper Unit Tests")
+class ExpiredSessionReaperTest {
+
+    @Mock
+    private UserSessionRepository userSessionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiredSessionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reaper = new ExpiredSessionReaper(userSessionRepository, meterRegistry, 100, Duration.ZERO, 5);
+    }
+
+    @Test
+    @DisplayName("Should delete in batches until a short batch comes back")
+    void reap_DrainsUntilShortBatch() {
+        // Given
+        when(userSessionRepository.deleteExpiredSessionsBatch(any(), eq(100))).thenReturn(100, 100, 40);
+        when(userSessionRepository.deleteInactiveSessionsBatch(100)).thenReturn(7);
+
+        // When
+        int deleted = reaper.reap();
+
+        // Then
+        assertThat(deleted).isEqualTo(247);
+        verify(userSessionRepository, times(3)).deleteExpiredSessionsBatch(any(), eq(100));
+        verify(userSessionRepository, times(1)).deleteInactiveSessionsBatch(100);
+        assertThat(meterRegistry.get("sessions.reaped").tag("reason", "expired").counter().count()).isEqualTo(240);
+        assertThat(meterRegistry.get("sessions.reaped").tag("reason", "inactive").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("sessions.reaped.per.run").summary().totalAmount()).isEqualTo(247);
+    }
+
+    @Test
+    @DisplayName("Should stop after max batches per run")
+    void reap_CappedByMaxBatches() {
+        // Given
+        when(userSessionRepository.deleteExpiredSessionsBatch(any(), eq(100))).thenReturn(100);
+        when(userSessionRepository.deleteInactiveSessionsBatch(100)).thenReturn(0);
+
+        // When
+        int deleted = reaper.reap();
+
+        // Then
+        assertThat(deleted).isEqualTo(500);
+        verify(userSessionRepository, times(5)).deleteExpiredSessionsBatch(any(), eq(100));
+    }
+}
@@ -0,0 +1,139 @@
+package com.expensetracker.security;
+
+import com.expensetracker.config.CacheConfig;
+import com.expensetracker.entity.User;
+import com.expensetracker.service.SessionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JwtTokenProvider and JwtAuthenticationFilter
+ */
+@DisplayName("JwtTokenProvider Unit Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-only-not-for-production";
+
+    private Cache<String, AuthenticatedUser> cache;
+    private JwtTokenProvider provider;
+    private SessionService sessionService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfter(new CacheConfig.ExpiresAtExpiry<AuthenticatedUser>(Duration.ofMinutes(10)))
+                .build();
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, cache);
+        sessionService = mock(SessionService.class);
+
+        user = new User();
+        user.setId(42L);
+        user.setUsername("alice");
+        user.setCurrency("EUR");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should resolve the principal from claims and cache the verified token")
+    void resolve_RoundTripAndCache() {
+        // Given
+        String token = provider.generateToken(user);
+
+        // When
+        Optional<AuthenticatedUser> first = provider.resolve(token);
+        Optional<AuthenticatedUser> second = provider.resolve(token);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(first.get().getUserId()).isEqualTo(42L);
+        assertThat(first.get().getUsername()).isEqualTo("alice");
+        assertThat(first.get().getCurrency()).isEqualTo("EUR");
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered, foreign and expired tokens")
+    void resolve_RejectsInvalidTokens() {
+        String token = provider.generateToken(user);
+        String foreign = new JwtTokenProvider(SECRET + "-other", 3_600_000L, cache).generateToken(user);
+        String expired = new JwtTokenProvider(SECRET, -1_000L, cache).generateToken(user);
+
+        assertThat(provider.resolve(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+        assertThat(provider.resolve(foreign)).isEmpty();
+        assertThat(provider.resolve(expired)).isEmpty();
+        assertThat(provider.resolve("not-a-jwt")).isEmpty();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Filter should authenticate Bearer tokens and expose them as the current user")
+    void filter_SetsPrincipal() throws Exception {
+        // Given
+        String token = provider.generateToken(user);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        when(sessionService.validateSession(token)).thenReturn(Optional.of(
+                new VerifiedSession(7L, 42L, LocalDateTime.now().plusHours(1))));
+
+        // When
+        new JwtAuthenticationFilter(provider, sessionService)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isInstanceOf(AuthenticatedUser.class);
+        assertThat(CurrentUser.get().getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Filter should reject a validly signed token whose session was invalidated")
+    void filter_RejectsRevokedSession() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + provider.generateToken(user));
+        when(sessionService.validateSession(anyString())).thenReturn(Optional.empty());
+
+        // When
+        new JwtAuthenticationFilter(provider, sessionService)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Filter should leave requests without a valid token unauthenticated")
+    void filter_IgnoresMissingToken() throws Exception {
+        new JwtAuthenticationFilter(provider, sessionService)
+                .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(CurrentUser.get().getId()).isEqualTo(1L);
+        verifyNoInteractions(sessionService);
+    }
+}
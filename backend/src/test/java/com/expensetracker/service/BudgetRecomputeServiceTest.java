@@ -0,0 +1,92 @@
+package com.expensetracker.service;
+
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.impl.BudgetRecomputeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetRecomputeService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetRecomputeService Unit Tests")
+class BudgetRecomputeServiceTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BudgetRecomputeServiceImpl budgetRecomputeService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        budgetRecomputeService = new BudgetRecomputeServiceImpl(budgetRepository, transactionManager, 10);
+    }
+
+    @Test
+    @DisplayName("Should recompute every user ID range in its own transaction, locking first")
+    void recomputeAll_ChunksByUserRange() {
+        // Given
+        when(budgetRepository.findBudgetUserIdRange()).thenReturn(List.<Object[]>of(new Object[]{1L, 25L}));
+        when(budgetRepository.recomputeSpentAmounts(anyLong(), anyLong())).thenReturn(2);
+
+        // When
+        int corrected = budgetRecomputeService.recomputeAll();
+
+        // Then
+        assertThat(corrected).isEqualTo(6);
+        InOrder inOrder = inOrder(budgetRepository);
+        inOrder.verify(budgetRepository).lockBudgetsForUserRange(1L, 10L);
+        inOrder.verify(budgetRepository).recomputeSpentAmounts(1L, 10L);
+        inOrder.verify(budgetRepository).lockBudgetsForUserRange(11L, 20L);
+        inOrder.verify(budgetRepository).recomputeSpentAmounts(11L, 20L);
+        inOrder.verify(budgetRepository).lockBudgetsForUserRange(21L, 25L);
+        inOrder.verify(budgetRepository).recomputeSpentAmounts(21L, 25L);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no budgets")
+    void recomputeAll_NoBudgets() {
+        when(budgetRepository.findBudgetUserIdRange()).thenReturn(List.<Object[]>of(new Object[]{null, null}));
+
+        assertThat(budgetRecomputeService.recomputeAll()).isZero();
+        verify(budgetRepository, never()).recomputeSpentAmounts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should retry a single user's recompute after a lock conflict")
+    void recomputeUser_RetriesOnLockConflict() {
+        // Given
+        when(budgetRepository.lockBudgetsForUserRange(5L, 5L))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn(Collections.emptyList());
+        when(budgetRepository.recomputeSpentAmounts(5L, 5L)).thenReturn(1);
+
+        // When
+        int corrected = budgetRecomputeService.recomputeUser(5L);
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+        verify(budgetRepository, times(2)).lockBudgetsForUserRange(5L, 5L);
+        verify(transactionManager).rollback(any());
+    }
+}
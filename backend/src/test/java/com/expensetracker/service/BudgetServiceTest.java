@@ -0,0 +1,70 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.BudgetStatusDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.BudgetAlertState;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.impl.BudgetServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetService Unit Tests")
+class BudgetServiceTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @InjectMocks
+    private BudgetServiceImpl budgetService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should return the projected status of the period")
+    void getBudgetStatus_Success() {
+        // Given
+        BudgetStatusDTO food = new BudgetStatusDTO(1L, 1L, "Food", "#FF5733", "food",
+                new BigDecimal("200.00"), new BigDecimal("50.00"), new BigDecimal("80.00"), BudgetAlertState.OK);
+        when(budgetRepository.findStatusByUserAndPeriod(1L, 2024, 3)).thenReturn(List.of(food));
+
+        // When
+        List<BudgetStatusDTO> result = budgetService.getBudgetStatus(testUser, 2024, 3);
+
+        // Then
+        assertThat(result).containsExactly(food);
+        assertThat(food.getRemainingAmount()).isEqualByComparingTo("150.00");
+        assertThat(food.getPercentageUsed()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid month or year")
+    void getBudgetStatus_InvalidPeriod() {
+        assertThatThrownBy(() -> budgetService.getBudgetStatus(testUser, 2024, 13))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> budgetService.getBudgetStatus(testUser, 1999, 1))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(budgetRepository);
+    }
+}
@@ -0,0 +1,151 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.repository.BudgetRepository;
+import com.expensetracker.service.impl.BudgetTrackingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetTrackingService
+ * Verifies the spent-amount deltas applied to budgets
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetTrackingService Unit Tests")
+class BudgetTrackingServiceTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @InjectMocks
+    private BudgetTrackingServiceImpl budgetTrackingService;
+
+    private User testUser;
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+
+        testCategory = new Category();
+        testCategory.setId(7L);
+        testCategory.setName("Food");
+    }
+
+    @Test
+    @DisplayName("Should add expense spend to the matching budget")
+    void recordTransaction_Expense_AddsSpend() {
+        // When
+        budgetTrackingService.recordTransaction(
+                transaction(new BigDecimal("-50.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 15)));
+
+        // Then
+        verify(budgetRepository, times(1)).applySpentDelta(1L, 7L, 3, 2024, new BigDecimal("50.00"));
+    }
+
+    @Test
+    @DisplayName("Should ignore income transactions")
+    void recordTransaction_Income_NoUpdate() {
+        // When
+        budgetTrackingService.recordTransaction(
+                transaction(new BigDecimal("1000.00"), TransactionType.INCOME, LocalDate.of(2024, 3, 15)));
+
+        // Then
+        verify(budgetRepository, never()).applySpentDelta(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should subtract spend when reversing an expense")
+    void reverseTransaction_Expense_SubtractsSpend() {
+        // When
+        budgetTrackingService.reverseTransaction(
+                transaction(new BigDecimal("-50.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 15)));
+
+        // Then
+        verify(budgetRepository, times(1)).applySpentDelta(1L, 7L, 3, 2024, new BigDecimal("-50.00"));
+    }
+
+    @Test
+    @DisplayName("Should merge batch spend per budget and update in a stable order")
+    void recordTransactions_MergesPerBudget() {
+        // Given
+        List<Transaction> transactions = List.of(
+                transaction(new BigDecimal("-30.00"), TransactionType.EXPENSE, LocalDate.of(2024, 4, 2)),
+                transaction(new BigDecimal("-20.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 10)),
+                transaction(new BigDecimal("-5.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 20)),
+                transaction(new BigDecimal("900.00"), TransactionType.INCOME, LocalDate.of(2024, 3, 1)));
+
+        // When
+        budgetTrackingService.recordTransactions(transactions);
+
+        // Then
+        InOrder inOrder = inOrder(budgetRepository);
+        inOrder.verify(budgetRepository).applySpentDelta(1L, 7L, 3, 2024, new BigDecimal("25.00"));
+        inOrder.verify(budgetRepository).applySpentDelta(1L, 7L, 4, 2024, new BigDecimal("30.00"));
+        verifyNoMoreInteractions(budgetRepository);
+    }
+
+    @Test
+    @DisplayName("Should move spend between budgets in lock order, whatever the edit direction")
+    void replaceTransaction_MovesSpendInLockOrder() {
+        // Given - the edit moves an expense from April back to March
+        Transaction previous = transaction(new BigDecimal("-40.00"), TransactionType.EXPENSE, LocalDate.of(2024, 4, 2));
+        Transaction updated = transaction(new BigDecimal("-45.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 28));
+
+        // When
+        budgetTrackingService.replaceTransaction(previous, updated);
+
+        // Then
+        InOrder inOrder = inOrder(budgetRepository);
+        inOrder.verify(budgetRepository).applySpentDelta(1L, 7L, 3, 2024, new BigDecimal("45.00"));
+        inOrder.verify(budgetRepository).applySpentDelta(1L, 7L, 4, 2024, new BigDecimal("-40.00"));
+        verifyNoMoreInteractions(budgetRepository);
+    }
+
+    @Test
+    @DisplayName("Should net an edit within the same budget into one update")
+    void replaceTransaction_SameBudget_SingleUpdate() {
+        // Given
+        Transaction previous = transaction(new BigDecimal("-40.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 2));
+        Transaction updated = transaction(new BigDecimal("-45.00"), TransactionType.EXPENSE, LocalDate.of(2024, 3, 9));
+
+        // When
+        budgetTrackingService.replaceTransaction(previous, updated);
+
+        // Then
+        verify(budgetRepository, times(1)).applySpentDelta(1L, 7L, 3, 2024, new BigDecimal("5.00"));
+        verifyNoMoreInteractions(budgetRepository);
+    }
+
+    // Helper method
+    private Transaction transaction(BigDecimal amount, TransactionType type, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setUser(testUser);
+        transaction.setCategory(testCategory);
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        transaction.setTransactionDate(date);
+        transaction.setTransactionType(type);
+        transaction.setPaymentMethod(PaymentMethod.CARD);
+        transaction.setActive(true);
+        return transaction;
+    }
+}
@@ -0,0 +1,81 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.entity.Category;
+import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.service.impl.CategoryCacheServiceImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CategoryCacheService
+ * Uses a real Caffeine cache over a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryCacheService Unit Tests")
+class CategoryCacheServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryCacheServiceImpl categoryCacheService;
+
+    @BeforeEach
+    void setUp() {
+        Cache<Long, Map<Long, CategoryDTO>> cache = Caffeine.newBuilder().maximumSize(10).build();
+        categoryCacheService = new CategoryCacheServiceImpl(cache, categoryRepository);
+
+        Category food = new Category();
+        food.setId(1L);
+        food.setName("Food");
+        food.setActive(true);
+
+        Category archived = new Category();
+        archived.setId(2L);
+        archived.setName("Archived");
+        archived.setActive(false);
+
+        when(categoryRepository.findByUserId(1L)).thenReturn(List.of(food, archived));
+    }
+
+    @Test
+    @DisplayName("Should load a user's categories once and serve later reads from cache")
+    void getCategory_CachedAfterFirstLoad() {
+        // When
+        assertThat(categoryCacheService.getCategory(1L, 1L)).isPresent();
+        assertThat(categoryCacheService.getCategory(1L, 2L)).isPresent();
+        assertThat(categoryCacheService.getCategory(1L, 999L)).isEmpty();
+        assertThat(categoryCacheService.getActiveCategories(1L))
+                .extracting(CategoryDTO::getName)
+                .containsExactly("Food");
+
+        // Then
+        verify(categoryRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload categories after eviction")
+    void evictUser_ReloadsOnNextRead() {
+        // Given
+        categoryCacheService.getActiveCategories(1L);
+
+        // When
+        categoryCacheService.evictUser(1L);
+        categoryCacheService.getActiveCategories(1L);
+
+        // Then
+        verify(categoryRepository, times(2)).findByUserId(1L);
+    }
+}
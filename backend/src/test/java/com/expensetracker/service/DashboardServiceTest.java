@@ -0,0 +1,88 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.dto.response.DashboardDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.impl.DashboardServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Unit Tests")
+class DashboardServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CategoryCacheService categoryCacheService;
+
+    @InjectMocks
+    private DashboardServiceImpl dashboardService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should build totals and category breakdown from the grouped scan")
+    void getDashboard_Success() {
+        // Given
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(transactionRepository.aggregateByCategoryAndDateRange(1L, start, end)).thenReturn(List.of(
+                new Object[]{1L, new BigDecimal("0"), new BigDecimal("-50.00"), 2L},
+                new Object[]{2L, new BigDecimal("0"), new BigDecimal("-120.00"), 1L},
+                new Object[]{3L, new BigDecimal("2000.00"), new BigDecimal("0"), 1L}));
+        when(categoryCacheService.getCategory(1L, 1L))
+                .thenReturn(Optional.of(CategoryDTO.builder().id(1L).name("Food").build()));
+        when(categoryCacheService.getCategory(1L, 2L))
+                .thenReturn(Optional.of(CategoryDTO.builder().id(2L).name("Rent").build()));
+        when(transactionRepository.findRecentSummaries(eq(1L), any())).thenReturn(List.of());
+
+        // When
+        DashboardDTO result = dashboardService.getDashboard(testUser, start, end, 5);
+
+        // Then
+        assertThat(result.getTotalIncome()).isEqualByComparingTo("2000.00");
+        assertThat(result.getTotalExpenses()).isEqualByComparingTo("170.00");
+        assertThat(result.getBalance()).isEqualByComparingTo("1830.00");
+        assertThat(result.getTransactionCount()).isEqualTo(4);
+        assertThat(result.getExpensesByCategory().keySet()).containsExactly("Rent", "Food");
+        verify(transactionRepository, times(1)).aggregateByCategoryAndDateRange(1L, start, end);
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range")
+    void getDashboard_InvalidDateRange_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> dashboardService.getDashboard(
+                testUser, LocalDate.of(2024, 3, 31), LocalDate.of(2024, 3, 1), 5))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(transactionRepository);
+    }
+}
@@ -0,0 +1,214 @@
+package com.expensetracker.service;
+
+import com.expensetracker.config.CacheConfig;
+import com.expensetracker.entity.IdempotencyKey;
+import com.expensetracker.entity.IdempotencyKeyId;
+import com.expensetracker.repository.IdempotencyKeyRepository;
+import com.expensetracker.security.TokenHasher;
+import com.expensetracker.service.IdempotencyService.Claim;
+import com.expensetracker.service.IdempotencyService.Outcome;
+import com.expensetracker.service.IdempotencyService.StoredResponse;
+import com.expensetracker.service.impl.IdempotencyServiceImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyService
+ * Uses a real Caffeine cache over a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Unit Tests")
+class IdempotencyServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "6f1c2e0a-3b7d-4c55-9a41-1d2f8e7b6a90";
+    private static final byte[] KEY_HASH = TokenHasher.sha256(KEY);
+    private static final byte[] REQUEST_HASH = TokenHasher.sha256("/api/v1/transactions\n{\"amount\":10}");
+    private static final String BODY = "{\"id\":42}";
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private Cache<String, StoredResponse> idempotencyCache;
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfter(new CacheConfig.ExpiresAtExpiry<StoredResponse>(Duration.ofMinutes(10)))
+                .build();
+        idempotencyService = new IdempotencyServiceImpl(
+                idempotencyKeyRepository, idempotencyCache, Duration.ofHours(24), Duration.ofSeconds(60), DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("Should acquire an unused key")
+    void claim_NewKey_Acquired() {
+        // Given
+        when(idempotencyKeyRepository.insertClaim(eq(USER_ID), eq(KEY_HASH), eq(REQUEST_HASH), any(), any()))
+                .thenReturn(1);
+
+        // When
+        Claim claim = idempotencyService.claim(USER_ID, KEY, REQUEST_HASH);
+
+        // Then
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.ACQUIRED);
+        verify(idempotencyKeyRepository).deleteIfExpired(eq(USER_ID), eq(KEY_HASH), any());
+        verify(idempotencyKeyRepository, never()).findByKey(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should replay a completed key from the table and cache it")
+    void claim_CompletedKey_ReplaysAndCaches() {
+        // Given
+        when(idempotencyKeyRepository.insertClaim(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findByKey(USER_ID, KEY_HASH)).thenReturn(Optional.of(row(201, BODY)));
+
+        // When
+        Claim first = idempotencyService.claim(USER_ID, KEY, REQUEST_HASH);
+        Claim second = idempotencyService.claim(USER_ID, KEY, REQUEST_HASH);
+
+        // Then
+        assertThat(first.getOutcome()).isEqualTo(Outcome.REPLAY);
+        assertThat(first.getResponse().getStatus()).isEqualTo(201);
+        assertThat(first.getResponse().getBody()).isEqualTo(BODY);
+        assertThat(second.getOutcome()).isEqualTo(Outcome.REPLAY);
+        verify(idempotencyKeyRepository, times(1)).findByKey(USER_ID, KEY_HASH);
+    }
+
+    @Test
+    @DisplayName("Should not replay a cached response past its expiry")
+    void claim_ExpiredCachedResponse_Acquired() {
+        // Given - a cache without expiry, so only the service's own check applies
+        Cache<String, StoredResponse> unboundedCache = Caffeine.newBuilder().build();
+        IdempotencyServiceImpl service = new IdempotencyServiceImpl(
+                idempotencyKeyRepository, unboundedCache, Duration.ofHours(24), Duration.ofSeconds(60), DataSize.ofKilobytes(1));
+        String cacheKey = USER_ID + ":" + TokenHasher.toHex(KEY_HASH);
+        unboundedCache.put(cacheKey, new StoredResponse(REQUEST_HASH, 201, BODY, LocalDateTime.now().minusSeconds(1)));
+        when(idempotencyKeyRepository.insertClaim(eq(USER_ID), eq(KEY_HASH), eq(REQUEST_HASH), any(), any()))
+                .thenReturn(1);
+
+        // When
+        Claim claim = service.claim(USER_ID, KEY, REQUEST_HASH);
+
+        // Then
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.ACQUIRED);
+        assertThat(unboundedCache.asMap()).doesNotContainKey(cacheKey);
+    }
+
+    @Test
+    @DisplayName("Should report a key whose original request is still running")
+    void claim_InFlightKey_InProgress() {
+        // Given
+        when(idempotencyKeyRepository.insertClaim(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findByKey(USER_ID, KEY_HASH)).thenReturn(Optional.of(row(null, null)));
+
+        // When
+        Claim claim = idempotencyService.claim(USER_ID, KEY, REQUEST_HASH);
+
+        // Then
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.IN_PROGRESS);
+        assertThat(idempotencyCache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void claim_DifferentRequest_Mismatch() {
+        // Given
+        when(idempotencyKeyRepository.complete(eq(USER_ID), eq(KEY_HASH), eq(201), eq(BODY), any())).thenReturn(1);
+        idempotencyService.complete(USER_ID, KEY, REQUEST_HASH, 201, BODY);
+
+        // When
+        Claim claim = idempotencyService.claim(USER_ID, KEY, TokenHasher.sha256("other body"));
+
+        // Then
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.MISMATCH);
+        verify(idempotencyKeyRepository, never()).insertClaim(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not cache a response whose claim was lost")
+    void complete_LostClaim_NotCached() {
+        // Given
+        when(idempotencyKeyRepository.complete(any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When
+        idempotencyService.complete(USER_ID, KEY, REQUEST_HASH, 201, BODY);
+
+        // Then
+        assertThat(idempotencyCache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should release a claim by key digest")
+    void release_DeletesClaim() {
+        // When
+        idempotencyService.release(USER_ID, KEY);
+
+        // Then
+        verify(idempotencyKeyRepository).release(USER_ID, KEY_HASH);
+    }
+
+    @Test
+    @DisplayName("Should renew the lease of running claims until they complete")
+    void renewClaims_ExtendsRunningClaimsOnly() {
+        // Given
+        when(idempotencyKeyRepository.insertClaim(eq(USER_ID), eq(KEY_HASH), eq(REQUEST_HASH), any(), any()))
+                .thenReturn(1);
+        when(idempotencyKeyRepository.renewClaim(eq(USER_ID), eq(KEY_HASH), any())).thenReturn(1);
+        when(idempotencyKeyRepository.complete(eq(USER_ID), eq(KEY_HASH), eq(201), eq(BODY), any())).thenReturn(1);
+        idempotencyService.claim(USER_ID, KEY, REQUEST_HASH);
+
+        // When
+        idempotencyService.renewClaims();
+        idempotencyService.complete(USER_ID, KEY, REQUEST_HASH, 201, BODY);
+        idempotencyService.renewClaims();
+
+        // Then
+        verify(idempotencyKeyRepository, times(1)).renewClaim(eq(USER_ID), eq(KEY_HASH),
+                argThat(expiresAt -> expiresAt.isAfter(LocalDateTime.now().plusSeconds(30))));
+    }
+
+    @Test
+    @DisplayName("Should replay a large response from the table without caching it")
+    void complete_LargeResponse_NotCached() {
+        // Given
+        String largeBody = "x".repeat(2048);
+        when(idempotencyKeyRepository.complete(eq(USER_ID), eq(KEY_HASH), eq(201), eq(largeBody), any()))
+                .thenReturn(1);
+
+        // When
+        idempotencyService.complete(USER_ID, KEY, REQUEST_HASH, 201, largeBody);
+
+        // Then
+        assertThat(idempotencyCache.asMap()).isEmpty();
+    }
+
+    // ========== Helper Methods ==========
+
+    private IdempotencyKey row(Integer status, String body) {
+        return IdempotencyKey.builder()
+                .id(new IdempotencyKeyId(USER_ID, KEY_HASH))
+                .requestHash(REQUEST_HASH)
+                .responseStatus(status)
+                .responseBody(body)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+}
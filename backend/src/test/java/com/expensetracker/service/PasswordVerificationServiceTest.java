@@ -0,0 +1,125 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.User;
+import com.expensetracker.exception.ServiceUnavailableException;
+import com.expensetracker.repository.UserRepository;
+import com.expensetracker.service.impl.PasswordVerificationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for PasswordVerificationService
+ * Uses a real single-thread executor and low BCrypt costs to keep tests fast
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordVerificationService Unit Tests")
+class PasswordVerificationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        meterRegistry = new SimpleMeterRegistry();
+
+        user = new User();
+        user.setId(1L);
+        user.setPasswordHash(new BCryptPasswordEncoder(4).encode("secret"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PasswordVerificationServiceImpl service(int cost, boolean rehash) {
+        return new PasswordVerificationServiceImpl(
+                executor, new BCryptPasswordEncoder(cost), userRepository, meterRegistry,
+                cost, rehash, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should verify on the executor and record timings")
+    void verify_MatchesAndRecordsMetrics() {
+        PasswordVerificationServiceImpl service = service(4, false);
+
+        assertThat(service.verify(user, "secret")).isTrue();
+        assertThat(service.verify(user, "wrong")).isFalse();
+
+        assertThat(meterRegistry.get("password.verification.duration").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.verification.queue.wait").timer().count()).isEqualTo(2);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should run BCrypt against the dummy hash for an unknown user")
+    void verifyUnknownUser_SpendsVerificationWork() {
+        PasswordVerificationServiceImpl service = service(4, true);
+
+        service.verifyUnknownUser("secret");
+
+        assertThat(meterRegistry.get("password.verification.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.verification.queue.wait").timer().count()).isEqualTo(1);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should rehash to the configured cost on successful login when enabled")
+    void verify_RehashesWhenCostDiffers() {
+        PasswordVerificationServiceImpl service = service(5, true);
+
+        assertThat(service.verify(user, "secret")).isTrue();
+
+        verify(userRepository).updatePasswordHash(eq(1L), startsWith("$2a$05$"));
+        assertThat(user.getPasswordHash()).startsWith("$2a$05$");
+        assertThat(meterRegistry.get("password.verification.rehashed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail fast with ServiceUnavailableException when the executor is saturated")
+    void verify_RejectsWhenSaturated() throws Exception {
+        // Given - occupy the only thread and the only queue slot
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        PasswordVerificationServiceImpl service = service(4, false);
+
+        try {
+            // When / Then
+            assertThatThrownBy(() -> service.verify(user, "secret"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("password.verification.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+}
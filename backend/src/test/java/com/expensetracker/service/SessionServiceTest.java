@@ -0,0 +1,135 @@
+package com.expensetracker.service;
+
+import com.expensetracker.config.CacheConfig;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.UserSession;
+import com.expensetracker.repository.UserSessionRepository;
+import com.expensetracker.security.TokenHasher;
+import com.expensetracker.security.VerifiedSession;
+import com.expensetracker.service.impl.SessionServiceImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionService
+ * Uses a real Caffeine cache over a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionService Unit Tests")
+class SessionServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private UserSessionRepository userSessionRepository;
+
+    private Cache<String, VerifiedSession> sessionCache;
+    private SessionServiceImpl sessionService;
+    private UserSession session;
+
+    @BeforeEach
+    void setUp() {
+        sessionCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfter(new CacheConfig.ExpiresAtExpiry<VerifiedSession>(Duration.ofMinutes(1)))
+                .build();
+        sessionService = new SessionServiceImpl(sessionCache, userSessionRepository);
+
+        User user = new User();
+        user.setId(1L);
+
+        session = UserSession.builder()
+                .id(10L)
+                .user(user)
+                .jwtToken(TOKEN)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should hit the repository once and serve later validations from cache")
+    void validateSession_CachedAfterFirstLookup() {
+        // Given
+        when(userSessionRepository.findByTokenHashAndActiveTrue(any())).thenReturn(Optional.of(session));
+
+        // When
+        Optional<VerifiedSession> first = sessionService.validateSession(TOKEN);
+        Optional<VerifiedSession> second = sessionService.validateSession(TOKEN);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(first.get().getUserId()).isEqualTo(1L);
+        assertThat(second).contains(first.get());
+        verify(userSessionRepository, times(1)).findByTokenHashAndActiveTrue(TokenHasher.sha256(TOKEN));
+        assertThat(sessionCache.asMap()).containsOnlyKeys(TokenHasher.toHex(TokenHasher.sha256(TOKEN)));
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown or expired sessions")
+    void validateSession_ExpiredNotCached() {
+        // Given
+        session.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(userSessionRepository.findByTokenHashAndActiveTrue(any())).thenReturn(Optional.of(session));
+
+        // When
+        Optional<VerifiedSession> result = sessionService.validateSession(TOKEN);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(sessionCache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the session when it is invalidated by token")
+    void invalidateSessionByToken_Evicts() {
+        // Given
+        when(userSessionRepository.findByTokenHashAndActiveTrue(any()))
+                .thenReturn(Optional.of(session))
+                .thenReturn(Optional.empty());
+        sessionService.validateSession(TOKEN);
+
+        // When
+        sessionService.invalidateSessionByToken(TOKEN);
+
+        // Then
+        verify(userSessionRepository).invalidateSessionByTokenHash(TokenHasher.sha256(TOKEN));
+        assertThat(sessionCache.asMap()).isEmpty();
+        assertThat(sessionService.validateSession(TOKEN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict only the user's sessions when all are invalidated")
+    void invalidateAllUserSessions_EvictsUserEntries() {
+        // Given
+        sessionCache.put("a", new VerifiedSession(1L, 1L, LocalDateTime.now().plusHours(1)));
+        sessionCache.put("b", new VerifiedSession(2L, 2L, LocalDateTime.now().plusHours(1)));
+
+        // When
+        sessionService.invalidateAllUserSessions(1L);
+
+        // Then
+        verify(userSessionRepository).invalidateAllUserSessions(1L);
+        assertThat(sessionCache.asMap()).containsOnlyKeys("b");
+    }
+
+    @Test
+    @DisplayName("Should hash the token into a fixed-width digest")
+    void tokenHasher_FixedWidth() {
+        assertThat(TokenHasher.sha256(TOKEN)).hasSize(32);
+        assertThat(TokenHasher.toHex(TokenHasher.sha256("x".repeat(500)))).hasSize(64);
+    }
+}
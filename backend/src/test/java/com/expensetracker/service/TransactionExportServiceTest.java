@@ -0,0 +1,101 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.request.TransactionExportFormat;
+import com.expensetracker.dto.response.TransactionExportDTO;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.impl.TransactionExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionExportService
+ * Verifies CSV/NDJSON encoding and default date bounds
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionExportService Unit Tests")
+class TransactionExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionExportServiceImpl exportService;
+
+    private User testUser;
+    private TransactionExportDTO testRow;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TransactionExportServiceImpl(transactionRepository, objectMapper);
+
+        testUser = new User();
+        testUser.setId(1L);
+
+        testRow = TransactionExportDTO.builder()
+                .id(5L)
+                .transactionDate(LocalDate.of(2024, 3, 15))
+                .transactionType(TransactionType.EXPENSE)
+                .amount(new BigDecimal("-50.00"))
+                .description("Lunch, \"downtown\"")
+                .categoryName("Food")
+                .paymentMethod(PaymentMethod.CARD)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should write CSV header and quote fields containing separators")
+    void exportTransactions_Csv_Success() throws Exception {
+        // Given
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 12, 31);
+        when(transactionRepository.streamForExport(1L, start, end)).thenReturn(Stream.of(testRow));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportTransactions(testUser, start, end, TransactionExportFormat.CSV, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,transactionDate,transactionType,amount,description,category,paymentMethod,notes\n" +
+                "5,2024-03-15,EXPENSE,-50.00,\"Lunch, \"\"downtown\"\"\",Food,CARD,\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line and default open date bounds")
+    void exportTransactions_Ndjson_Success() throws Exception {
+        // Given
+        when(transactionRepository.streamForExport(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Stream.of(testRow, testRow));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportTransactions(testUser, null, null, TransactionExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":5", "\"transactionDate\":\"2024-03-15\"", "\"categoryName\":\"Food\"");
+        verify(transactionRepository).streamForExport(1L, LocalDate.of(1900, 1, 1), LocalDate.of(9999, 12, 31));
+    }
+}
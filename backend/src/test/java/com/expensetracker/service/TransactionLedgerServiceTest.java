@@ -0,0 +1,154 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.Money;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.event.TransactionChangeEvent.ChangeType;
+import com.expensetracker.event.TransactionChangeEvent.TotalsDelta;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.impl.TransactionLedgerServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionLedgerService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionLedgerService Unit Tests")
+class TransactionLedgerServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private TransactionLedgerServiceImpl ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new TransactionLedgerServiceImpl(
+                transactionRepository, meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(10), 30);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{TODAY, TransactionType.INCOME, new BigDecimal("1000.00")});
+        rows.add(new Object[]{TODAY.minusDays(3), TransactionType.INCOME, new BigDecimal("250.50")});
+        rows.add(new Object[]{TODAY.minusDays(3), TransactionType.EXPENSE, new BigDecimal("-80.25")});
+        rows.add(new Object[]{TODAY.minusYears(2), TransactionType.EXPENSE, new BigDecimal("-19.99")});
+        lenient().when(transactionRepository.sumByDateAndType(USER_ID)).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should answer arbitrary ranges from one load")
+    void calculateTotal_ArbitraryRanges_SingleLoad() {
+        // When & Then
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY.minusDays(7), TODAY))
+                .isEqualByComparingTo("1250.50");
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY.minusDays(7), TODAY.minusDays(1)))
+                .isEqualByComparingTo("250.50");
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY.minusDays(7), TODAY))
+                .isEqualByComparingTo("80.25");
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, LocalDate.of(1990, 1, 1), TODAY.plusYears(5)))
+                .isEqualByComparingTo("100.24");
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY.minusDays(2), TODAY))
+                .isEqualByComparingTo("0");
+
+        verify(transactionRepository, times(1)).sumByDateAndType(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should return totals at currency scale, including empty and inverted ranges")
+    void calculateTotal_AlwaysCurrencyScale() {
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY))
+                .isEqualTo(new BigDecimal("1000.00"));
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY.minusDays(2), TODAY))
+                .isEqualTo(new BigDecimal("0.00"));
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY, TODAY.minusDays(1)))
+                .isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("Should apply committed deltas without reloading")
+    void onTransactionChange_AppliesDelta() {
+        // Given
+        ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY, TODAY);
+
+        // When
+        ledgerService.onTransactionChange(event(new TotalsDelta(TODAY, TransactionType.EXPENSE, Money.of(new BigDecimal("-12.30"), null))));
+
+        // Then
+        assertThat(ledgerService.calculateTotal(USER_ID, TransactionType.EXPENSE, TODAY, TODAY))
+                .isEqualByComparingTo("12.30");
+        verify(transactionRepository, times(1)).sumByDateAndType(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should reload when a delta falls outside the ledger window")
+    void onTransactionChange_OutsideWindow_Reloads() {
+        // Given
+        ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+
+        // When
+        ledgerService.onTransactionChange(event(
+                new TotalsDelta(TODAY.minusYears(10), TransactionType.INCOME, Money.of(new BigDecimal("5.00"), null))));
+        ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+
+        // Then
+        verify(transactionRepository, times(2)).sumByDateAndType(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that overlaps an uncommitted write")
+    void calculateTotal_DuringWrite_NotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Given: a write of the same user is in flight
+            ledgerService.onTransactionChange(event(
+                    new TotalsDelta(TODAY, TransactionType.INCOME, Money.of(new BigDecimal("1.00"), null))));
+
+            // When
+            ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+            ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+
+            // Then
+            verify(transactionRepository, times(2)).sumByDateAndType(USER_ID);
+
+            // After the write completes, loads are cached again
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+        ledgerService.calculateTotal(USER_ID, TransactionType.INCOME, TODAY, TODAY);
+        verify(transactionRepository, times(3)).sumByDateAndType(USER_ID);
+    }
+
+    // ========== Helper Methods ==========
+
+    private TransactionChangeEvent event(TotalsDelta delta) {
+        return new TransactionChangeEvent(ChangeType.CREATED, USER_ID, 99L, null, List.of(delta));
+    }
+}
@@ -0,0 +1,123 @@
+package com.expensetracker.service;
+
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.TransactionMonthlyRollupId;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.enums.PaymentMethod;
+import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.repository.TransactionMonthlyRollupRepository;
+import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.service.impl.TransactionRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionRollupService
+ * Verifies the split between rollup buckets and raw edge-month scans
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionRollupService Unit Tests")
+class TransactionRollupServiceTest {
+
+    @Mock
+    private TransactionMonthlyRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private TransactionRollupServiceImpl rollupService;
+
+    private Transaction testTransaction;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = new User();
+        testUser.setId(1L);
+
+        Category testCategory = new Category();
+        testCategory.setId(7L);
+        testCategory.setName("Food");
+
+        testTransaction = new Transaction();
+        testTransaction.setId(1L);
+        testTransaction.setUser(testUser);
+        testTransaction.setCategory(testCategory);
+        testTransaction.setAmount(new BigDecimal("-50.00"));
+        testTransaction.setDescription("Lunch");
+        testTransaction.setTransactionDate(LocalDate.of(2024, 3, 15));
+        testTransaction.setTransactionType(TransactionType.EXPENSE);
+        testTransaction.setPaymentMethod(PaymentMethod.CARD);
+        testTransaction.setActive(true);
+    }
+
+    @Test
+    @DisplayName("Should upsert the transaction's monthly bucket in one statement")
+    void recordTransaction_UpsertsBucket() {
+        // When
+        rollupService.recordTransaction(testTransaction);
+
+        // Then
+        verify(rollupRepository, times(1)).upsertDelta(
+                new TransactionMonthlyRollupId(1L, 7L, 2024, 3, TransactionType.EXPENSE),
+                new BigDecimal("-50.00"), 1L);
+        verify(rollupRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should apply negated delta when reversing a transaction")
+    void reverseTransaction_AppliesNegatedDelta() {
+        // When
+        rollupService.reverseTransaction(testTransaction);
+
+        // Then
+        verify(rollupRepository, times(1)).upsertDelta(
+                new TransactionMonthlyRollupId(1L, 7L, 2024, 3, TransactionType.EXPENSE),
+                new BigDecimal("50.00"), -1L);
+    }
+
+    @Test
+    @DisplayName("Should merge rollup and edge category totals, largest expense first")
+    void getExpensesByCategory_MergesSources() {
+        // Given
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 10);
+
+        List<Object[]> rollupRows = new ArrayList<>();
+        rollupRows.add(new Object[]{7L, "Food", new BigDecimal("-100.00")});
+        rollupRows.add(new Object[]{8L, "Transport", new BigDecimal("-150.00")});
+        List<Object[]> edgeRows = new ArrayList<>();
+        edgeRows.add(new Object[]{7L, "Food", new BigDecimal("-75.00")});
+
+        when(rollupRepository.sumExpensesByCategoryAndMonthRange(1L, 2024, 2, 2024, 2))
+                .thenReturn(rollupRows);
+        when(transactionRepository.sumExpensesByCategoryIdAndDateRange(
+                1L, LocalDate.of(2024, 3, 1), endDate))
+                .thenReturn(edgeRows);
+
+        // When
+        Map<String, BigDecimal> result = rollupService.getExpensesByCategory(1L, startDate, endDate);
+
+        // Then
+        assertThat(result).containsOnlyKeys("Food", "Transport");
+        assertThat(result.keySet()).containsExactly("Food", "Transport");
+        assertThat(result.get("Food")).isEqualByComparingTo("175.00");
+        assertThat(result.get("Transport")).isEqualByComparingTo("150.00");
+    }
+}
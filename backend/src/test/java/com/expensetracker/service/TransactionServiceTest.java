@@ -1,25 +1,37 @@
 package com.expensetracker.service;
 
 import com.expensetracker.dto.request.TransactionCreateDTO;
+import com.expensetracker.dto.request.TransactionCursor;
+import com.expensetracker.dto.request.TransactionSearchCriteria;
 import com.expensetracker.dto.request.TransactionUpdateDTO;
+import com.expensetracker.dto.response.CategoryDTO;
+import com.expensetracker.dto.response.TransactionBatchResultDTO;
 import com.expensetracker.dto.response.TransactionResponseDTO;
+import com.expensetracker.dto.response.TransactionSummaryDTO;
 import com.expensetracker.entity.Category;
 import com.expensetracker.entity.Transaction;
 import com.expensetracker.entity.User;
 import com.expensetracker.entity.enums.PaymentMethod;
 import com.expensetracker.entity.enums.TransactionType;
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.event.TransactionChangeEvent.ChangeType;
 import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.exception.ConflictException;
 import com.expensetracker.exception.ResourceNotFoundException;
 import com.expensetracker.repository.CategoryRepository;
 import com.expensetracker.repository.TransactionRepository;
 import com.expensetracker.service.impl.TransactionServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,6 +46,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -51,11 +64,33 @@ class TransactionServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryCacheService categoryCacheService;
+
+    @Mock
+    private TransactionRollupService transactionRollupService;
+
+    @Mock
+    private TransactionLedgerService transactionLedgerService;
+
+    @Mock
+    private BudgetTrackingService budgetTrackingService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
     private User testUser;
     private Category testCategory;
+    private CategoryDTO testCategoryDTO;
     private Transaction testTransaction;
 
     @BeforeEach
@@ -75,6 +110,14 @@ class TransactionServiceTest {
         testCategory.setUser(testUser);
         testCategory.setActive(true);
 
+        testCategoryDTO = CategoryDTO.builder()
+                .id(1L)
+                .name("Food")
+                .color("#FF5733")
+                .icon("🍔")
+                .active(true)
+                .build();
+
         // Setup test transaction
         testTransaction = new Transaction();
         testTransaction.setId(1L);
@@ -102,7 +145,7 @@ class TransactionServiceTest {
         dto.setPaymentMethod(PaymentMethod.TRANSFER);
         dto.setTransactionDate(LocalDate.now());
 
-        when(categoryRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testCategory));
+        when(categoryCacheService.getCategory(1L, 1L)).thenReturn(Optional.of(testCategoryDTO));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> {
             Transaction saved = invocation.getArgument(0);
             saved.setId(2L);
@@ -120,8 +163,11 @@ class TransactionServiceTest {
         assertThat(result.getTransactionType()).isEqualTo(TransactionType.INCOME);
         assertThat(result.getAmount()).isPositive(); // Income should be positive
         
-        verify(categoryRepository, times(1)).findByIdAndUserId(1L, 1L);
+        verify(categoryCacheService, times(1)).getCategory(1L, 1L);
+        verify(categoryRepository, never()).findByIdAndUserId(anyLong(), anyLong());
         verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(transactionRollupService, times(1)).recordTransaction(any(Transaction.class));
+        verify(budgetTrackingService, times(1)).recordTransaction(any(Transaction.class));
     }
 
     @Test
@@ -136,7 +182,7 @@ class TransactionServiceTest {
         dto.setPaymentMethod(PaymentMethod.CASH);
         dto.setTransactionDate(LocalDate.now());
 
-        when(categoryRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testCategory));
+        when(categoryCacheService.getCategory(1L, 1L)).thenReturn(Optional.of(testCategoryDTO));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> {
             Transaction saved = invocation.getArgument(0);
             saved.setId(3L);
@@ -169,7 +215,7 @@ class TransactionServiceTest {
         dto.setPaymentMethod(PaymentMethod.CASH);
         dto.setTransactionDate(LocalDate.now());
 
-        when(categoryRepository.findByIdAndUserId(999L, 1L)).thenReturn(Optional.empty());
+        when(categoryCacheService.getCategory(1L, 999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> transactionService.createTransaction(dto, testUser))
@@ -191,7 +237,7 @@ class TransactionServiceTest {
         dto.setPaymentMethod(PaymentMethod.CASH);
         dto.setTransactionDate(LocalDate.now());
 
-        when(categoryRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testCategory));
+        when(categoryCacheService.getCategory(1L, 1L)).thenReturn(Optional.of(testCategoryDTO));
 
         // When & Then
         assertThatThrownBy(() -> transactionService.createTransaction(dto, testUser))
@@ -201,6 +247,21 @@ class TransactionServiceTest {
         verify(transactionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should check category ownership against the cache when listing by category")
+    void getTransactionsByCategory_UnknownCategory_ThrowsException() {
+        // Given
+        when(categoryCacheService.getCategory(1L, 99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.getTransactionsByCategory(testUser, 99L, PageRequest.of(0, 20)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Category");
+
+        verify(categoryRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+        verifyNoInteractions(transactionRepository);
+    }
+
     @Test
     @DisplayName("Should update transaction successfully")
     void updateTransaction_Success() {
@@ -210,7 +271,7 @@ class TransactionServiceTest {
         dto.setAmount(new BigDecimal("60.00"));
 
         when(transactionRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTransaction));
-        when(transactionRepository.save(any(Transaction.class))).thenReturn(testTransaction);
+        when(transactionRepository.saveAndFlush(any(Transaction.class))).thenReturn(testTransaction);
 
         // When
         TransactionResponseDTO result = transactionService.updateTransaction(1L, dto, testUser);
@@ -218,7 +279,14 @@ class TransactionServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(transactionRepository, times(1)).findByIdAndUserId(1L, 1L);
-        verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(transactionRepository, times(1)).saveAndFlush(any(Transaction.class));
+        verify(transactionRollupService, times(1)).reverseTransaction(testTransaction);
+        verify(transactionRollupService, times(1)).recordTransaction(testTransaction);
+        verify(budgetTrackingService, times(1)).replaceTransaction(
+                argThat(previous -> previous.getAmount().compareTo(new BigDecimal("-50.00")) == 0),
+                eq(testTransaction));
+        verify(budgetTrackingService, never()).reverseTransaction(any());
+        verify(budgetTrackingService, never()).recordTransaction(any());
     }
 
     @Test
@@ -236,6 +304,26 @@ class TransactionServiceTest {
                 .hasMessageContaining("Transaction");
 
         verify(transactionRepository, never()).save(any());
+        verify(transactionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an update based on a stale version before touching counters")
+    void updateTransaction_StaleVersion_ThrowsConflict() {
+        // Given
+        testTransaction.setVersion(3L);
+        TransactionUpdateDTO dto = new TransactionUpdateDTO();
+        dto.setDescription("Updated");
+        dto.setVersion(2L);
+
+        when(transactionRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTransaction));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.updateTransaction(1L, dto, testUser))
+                .isInstanceOf(ConflictException.class);
+
+        verify(transactionRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(transactionRollupService, budgetTrackingService);
     }
 
     @Test
@@ -252,6 +340,15 @@ class TransactionServiceTest {
         verify(transactionRepository, times(1)).save(argThat(transaction ->
                 !transaction.getActive()
         ));
+        verify(transactionRollupService, times(1)).reverseTransaction(testTransaction);
+        verify(transactionRollupService, never()).recordTransaction(any());
+        verify(budgetTrackingService, times(1)).reverseTransaction(testTransaction);
+
+        ArgumentCaptor<TransactionChangeEvent> event = ArgumentCaptor.forClass(TransactionChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChangeType()).isEqualTo(ChangeType.DELETED);
+        assertThat(event.getValue().getTotalsDeltas()).singleElement()
+                .satisfies(delta -> assertThat(delta.getAmount().toBigDecimal()).isEqualByComparingTo(testTransaction.getAmount().negate()));
     }
 
     @Test
@@ -274,11 +371,11 @@ class TransactionServiceTest {
     @DisplayName("Should get user transactions with pagination")
     void getUserTransactions_Paginated_Success() {
         // Given
-        List<Transaction> transactions = Arrays.asList(testTransaction);
-        Page<Transaction> page = new PageImpl<>(transactions);
+        List<TransactionSummaryDTO> transactions = Arrays.asList(testSummary());
+        Page<TransactionSummaryDTO> page = new PageImpl<>(transactions);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(transactionRepository.findByUserIdAndActiveTrue(1L, pageable)).thenReturn(page);
+        when(transactionRepository.findSummariesByUserId(1L, pageable)).thenReturn(page);
 
         // When
         var result = transactionService.getUserTransactions(testUser, pageable);
@@ -286,7 +383,7 @@ class TransactionServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(transactionRepository, times(1)).findByUserIdAndActiveTrue(1L, pageable);
+        verify(transactionRepository, times(1)).findSummariesByUserId(1L, pageable);
     }
 
     @Test
@@ -295,11 +392,11 @@ class TransactionServiceTest {
         // Given
         LocalDate startDate = LocalDate.now().minusDays(7);
         LocalDate endDate = LocalDate.now();
-        List<Transaction> transactions = Arrays.asList(testTransaction);
-        Page<Transaction> page = new PageImpl<>(transactions);
+        List<TransactionSummaryDTO> transactions = Arrays.asList(testSummary());
+        Page<TransactionSummaryDTO> page = new PageImpl<>(transactions);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(transactionRepository.findByUserIdAndActiveTrueAndTransactionDateBetween(
+        when(transactionRepository.findSummariesByUserIdAndDateRange(
                 1L, startDate, endDate, pageable)).thenReturn(page);
 
         // When
@@ -325,6 +422,61 @@ class TransactionServiceTest {
                 .hasMessageContaining("Start date");
     }
 
+    @Test
+    @DisplayName("Should reject a keyset page larger than the cap before querying")
+    void getUserTransactions_OversizedCursorPage_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.getUserTransactions(
+                testUser, TransactionCursor.FIRST, 101))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Page size");
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a search whose minimum amount exceeds its maximum")
+    void searchTransactions_InvalidAmountRange_ThrowsException() {
+        // Given
+        TransactionSearchCriteria criteria = TransactionSearchCriteria.builder()
+                .minAmount(new BigDecimal("100.00"))
+                .maxAmount(new BigDecimal("10.00"))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.searchTransactions(testUser, criteria, PageRequest.of(0, 10)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Minimum amount");
+        verify(transactionRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return full-text matches in rank order with an escaped substring pattern")
+    void searchTransactionsByText_PreservesRankOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(transactionRepository.searchIdsByText(1L, "net_flix", "%net\\_flix%", pageable))
+                .thenReturn(new PageImpl<>(List.of(7L, 3L), pageable, 2));
+        when(transactionRepository.findSummariesByUserIdAndIdIn(1L, List.of(7L, 3L))).thenReturn(List.of(
+                TransactionSummaryDTO.builder().id(3L).description("Netflix").build(),
+                TransactionSummaryDTO.builder().id(7L).description("Net_flix").build()));
+
+        // When
+        Page<TransactionSummaryDTO> result = transactionService.searchTransactionsByText(testUser, " net_flix ", pageable);
+
+        // Then
+        assertThat(result.getContent()).extracting(TransactionSummaryDTO::getId).containsExactly(7L, 3L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank full-text query")
+    void searchTransactionsByText_Blank_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.searchTransactionsByText(testUser, "  ", PageRequest.of(0, 10)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(transactionRepository);
+    }
+
     @Test
     @DisplayName("Should calculate total income")
     void calculateTotalIncome_Success() {
@@ -333,7 +485,7 @@ class TransactionServiceTest {
         LocalDate endDate = LocalDate.now();
         BigDecimal expectedTotal = new BigDecimal("5000.00");
 
-        when(transactionRepository.calculateTotalIncomeByDateRange(1L, startDate, endDate))
+        when(transactionLedgerService.calculateTotal(1L, TransactionType.INCOME, startDate, endDate))
                 .thenReturn(expectedTotal);
 
         // When
@@ -341,7 +493,7 @@ class TransactionServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedTotal);
-        verify(transactionRepository, times(1)).calculateTotalIncomeByDateRange(1L, startDate, endDate);
+        verify(transactionLedgerService, times(1)).calculateTotal(1L, TransactionType.INCOME, startDate, endDate);
     }
 
     @Test
@@ -352,7 +504,7 @@ class TransactionServiceTest {
         LocalDate endDate = LocalDate.now();
         BigDecimal expectedTotal = new BigDecimal("3000.00");
 
-        when(transactionRepository.calculateTotalExpensesByDateRange(1L, startDate, endDate))
+        when(transactionLedgerService.calculateTotal(1L, TransactionType.EXPENSE, startDate, endDate))
                 .thenReturn(expectedTotal);
 
         // When
@@ -360,7 +512,7 @@ class TransactionServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedTotal);
-        verify(transactionRepository, times(1)).calculateTotalExpensesByDateRange(1L, startDate, endDate);
+        verify(transactionLedgerService, times(1)).calculateTotal(1L, TransactionType.EXPENSE, startDate, endDate);
     }
 
     @Test
@@ -376,5 +528,87 @@ class TransactionServiceTest {
         assertThat(count).isEqualTo(10L);
         verify(transactionRepository, times(1)).countByUserIdAndActiveTrue(1L);
     }
-}
 
+    @Test
+    @DisplayName("Should get recent transactions from projection without count query")
+    void getRecentTransactions_UsesProjection() {
+        // Given
+        when(transactionRepository.findRecentSummaries(1L, PageRequest.ofSize(5)))
+                .thenReturn(List.of(testSummary()));
+
+        // When
+        List<TransactionSummaryDTO> result = transactionService.getRecentTransactions(testUser, 5);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCategoryName()).isEqualTo("Food");
+        verify(transactionRepository, never()).findRecentTransactions(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should create batch checking each distinct category once")
+    void createTransactions_MixedRows_ReportsPerRow() {
+        // Given
+        TransactionCreateDTO valid1 = batchRow(1L, "Coffee");
+        TransactionCreateDTO valid2 = batchRow(1L, "Bus");
+        TransactionCreateDTO unknownCategory = batchRow(999L, "Unknown");
+
+        when(categoryCacheService.getCategory(1L, 1L)).thenReturn(Optional.of(testCategoryDTO));
+        when(categoryCacheService.getCategory(1L, 999L)).thenReturn(Optional.empty());
+        when(categoryRepository.getReferenceById(1L)).thenReturn(testCategory);
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> saved = invocation.getArgument(0);
+            long id = 100L;
+            for (Transaction transaction : saved) {
+                transaction.setId(id++);
+            }
+            return saved;
+        });
+
+        // When
+        TransactionBatchResultDTO result = transactionService.createTransactions(
+                List.of(valid1, unknownCategory, valid2), testUser);
+
+        // Then
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getId()).isEqualTo(100L);
+        assertThat(result.getResults().get(1).isCreated()).isFalse();
+        assertThat(result.getResults().get(1).getErrors()).anyMatch(error -> error.contains("Category"));
+        assertThat(result.getResults().get(2).getId()).isEqualTo(101L);
+
+        verify(categoryCacheService, times(1)).getCategory(1L, 1L);
+        verify(categoryRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+        verify(transactionRollupService, times(1)).recordTransactions(anyList());
+        verify(budgetTrackingService, times(1)).recordTransactions(anyList());
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("Should reject empty batch")
+    void createTransactions_EmptyBatch_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.createTransactions(List.of(), testUser))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("at least one");
+    }
+
+    private TransactionCreateDTO batchRow(Long categoryId, String description) {
+        TransactionCreateDTO dto = new TransactionCreateDTO();
+        dto.setAmount(new BigDecimal("12.50"));
+        dto.setDescription(description);
+        dto.setCategoryId(categoryId);
+        dto.setTransactionType(TransactionType.EXPENSE);
+        dto.setPaymentMethod(PaymentMethod.CARD);
+        dto.setTransactionDate(LocalDate.now());
+        return dto;
+    }
+
+    // Helper method
+    private TransactionSummaryDTO testSummary() {
+        return new TransactionSummaryDTO(
+                1L, new BigDecimal("-50.00"), "Lunch", LocalDate.now(), TransactionType.EXPENSE,
+                1L, "Food", "#FF5733", "🍔", new BigDecimal("50.00"));
+    }
+}
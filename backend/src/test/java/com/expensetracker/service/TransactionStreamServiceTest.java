@@ -0,0 +1,93 @@
+package com.expensetracker.service;
+
+import com.expensetracker.event.TransactionChangeEvent;
+import com.expensetracker.event.TransactionChangeEvent.ChangeType;
+import com.expensetracker.service.impl.TransactionStreamServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionStreamService
+ * Drain tasks are captured instead of run, so buffers fill up as they would behind a stalled client
+ */
+@DisplayName("TransactionStreamService Unit Tests")
+class TransactionStreamServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int MAX_PER_USER = 2;
+
+    private List<Runnable> drainTasks;
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionStreamServiceImpl streamService;
+
+    @BeforeEach
+    void setUp() {
+        drainTasks = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        streamService = new TransactionStreamServiceImpl(drainTasks::add, new ObjectMapper().findAndRegisterModules(),
+                meterRegistry, Duration.ofMinutes(30), Duration.ofSeconds(3), BUFFER_SIZE, MAX_PER_USER);
+    }
+
+    @Test
+    @DisplayName("Should close the oldest stream when a user exceeds the limit")
+    void subscribe_OverLimit_ClosesOldest() {
+        // When
+        streamService.subscribe(1L);
+        streamService.subscribe(1L);
+        streamService.subscribe(1L);
+        streamService.subscribe(2L);
+
+        // Then
+        assertThat(streamService.getSubscriberCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("transaction.stream.subscribers").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should evict a subscriber whose buffer overflows")
+    void publish_SlowConsumer_Evicted() {
+        // Given: the connect comment already occupies one slot
+        streamService.subscribe(1L);
+        streamService.subscribe(2L);
+
+        // When
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            streamService.publish(event(1L));
+        }
+
+        // Then
+        assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.stream.evicted").counter().count()).isEqualTo(1.0);
+        assertThat(drainTasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should not buffer events of other users")
+    void publish_OtherUser_Ignored() {
+        // Given
+        streamService.subscribe(1L);
+
+        // When
+        for (int i = 0; i < BUFFER_SIZE * 2; i++) {
+            streamService.publish(event(2L));
+        }
+
+        // Then
+        assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.stream.evicted").counter().count()).isZero();
+    }
+
+    // ========== Helper Methods ==========
+
+    private TransactionChangeEvent event(Long userId) {
+        return new TransactionChangeEvent(ChangeType.DELETED, userId, 10L, null, List.of());
+    }
+}
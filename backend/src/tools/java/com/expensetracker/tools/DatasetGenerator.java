@@ -0,0 +1,502 @@
+package com.expensetracker.tools;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic dataset generator for load and query testing
+ * Creates N users x M categories x K transactions per user with realistic
+ * distributions (Zipf-skewed categories, seasonal and weekend-heavy dates,
+ * log-normal amounts, weighted payment methods, a soft-deleted fraction)
+ * and bulk-loads them with COPY on PostgreSQL or batched inserts on H2.
+ *
+ * Run with: ./gradlew generateDataset -PdatasetArgs="--users 1000 --transactions 10000"
+ * Options: --url --user --password --users --categories --transactions
+ *          --years --income-fraction --deleted-fraction --seed
+ */
+public final class DatasetGenerator {
+
+    // Mirrors the default categories in V2__Seed_Data.sql
+    // {name, color, icon, median amount}
+    private static final String[][] INCOME_CATEGORIES = {
+            {"Salario", "#4CAF50", "attach_money", "3000"},
+            {"Freelance", "#8BC34A", "work", "600"},
+            {"Inversiones", "#66BB6A", "trending_up", "150"}
+    };
+    private static final String[][] EXPENSE_CATEGORIES = {
+            {"Alimentación", "#FF6384", "restaurant", "35"},
+            {"Transporte", "#36A2EB", "directions_car", "12"},
+            {"Servicios", "#FF6384", "build", "45"},
+            {"Entretenimiento", "#FFCE56", "movie", "25"},
+            {"Ropa", "#C9CBCF", "checkroom", "60"},
+            {"Salud", "#4BC0C0", "local_hospital", "50"},
+            {"Vivienda", "#FF9F40", "home", "700"},
+            {"Educación", "#9966FF", "school", "120"},
+            {"Deporte", "#4DD0E1", "fitness_center", "30"},
+            {"Mascotas", "#FFB74D", "pets", "28"},
+            {"Regalos", "#F06292", "card_giftcard", "40"},
+            {"Otros Gastos", "#B0BEC5", "more_horiz", "20"}
+    };
+    private static final String[] MERCHANTS = {
+            "Centro", "Online", "Tienda", "Mercado", "Express", "Plaza", "Estación", "Norte", "Sur"
+    };
+    private static final String[] CURRENCIES = {"USD", "COP", "EUR"};
+
+    // Relative transaction volume per month (Jan..Dec) and on weekends
+    private static final double[] MONTH_WEIGHTS = {0.85, 0.85, 0.95, 1.0, 1.0, 1.05, 1.1, 1.05, 0.95, 1.0, 1.15, 1.4};
+    private static final double WEEKEND_WEIGHT = 1.2;
+    private static final double MAX_DATE_WEIGHT = 1.4 * WEEKEND_WEIGHT;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final double AMOUNT_SIGMA = 0.6;
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("1000000.00");
+
+    // Same BCrypt hash as the seeded demo users (Demo1234!)
+    private static final String PASSWORD_HASH = "$2a$10$rB8L5vQzN.7xXqJ5K2fVm.YvXqZqDqKzJ3LqGZhQzX4vF5qF9vQ1G";
+
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int COMMIT_EVERY_ROWS = 50_000;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Options options;
+    private final Random random;
+    private final LocalDate firstDate;
+    private final int daySpan;
+
+    private DatasetGenerator(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        LocalDate today = LocalDate.now();
+        this.firstDate = today.minusYears(options.years).plusDays(1);
+        this.daySpan = (int) (today.toEpochDay() - firstDate.toEpochDay()) + 1;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        try (Connection connection = DriverManager.getConnection(options.url, options.username, options.password)) {
+            new DatasetGenerator(options).run(connection);
+        }
+    }
+
+    private void run(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        String runTag = "gen" + Long.toString(System.currentTimeMillis(), 36);
+        long started = System.nanoTime();
+
+        log("Generating %d users x %d categories x %d transactions (%s, run %s)",
+                options.users, options.categories, options.transactions, postgres ? "COPY" : "batch insert", runTag);
+
+        List<Long> userIds = insertUsers(connection, runTag);
+        List<List<CategoryProfile>> categories = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            categories.add(insertCategories(connection, userId));
+        }
+        connection.commit();
+        log("Inserted %d users and %d categories", userIds.size(), (long) userIds.size() * options.categories);
+
+        long rows = postgres
+                ? copyTransactions(connection, userIds, categories)
+                : insertTransactions(connection, userIds, categories);
+        connection.commit();
+        log("Loaded %d transactions", rows);
+
+        refreshRollup(connection, runTag);
+        connection.commit();
+        if (postgres) {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE transactions");
+                statement.execute("ANALYZE transaction_monthly_rollup");
+            }
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log("Done in %.1f s (%.0f transactions/s)", seconds, rows / Math.max(seconds, 0.001));
+    }
+
+    // ========== Users and Categories ==========
+
+    private List<Long> insertUsers(Connection connection, String runTag) throws SQLException {
+        String sql = "INSERT INTO users (email, username, password_hash, first_name, last_name, currency, active, " +
+                     "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+        List<Long> ids = new ArrayList<>(options.users);
+        try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"})) {
+            for (int i = 0; i < options.users; i++) {
+                statement.setString(1, runTag + ".user" + i + "@example.com");
+                statement.setString(2, runTag + "_user" + i);
+                statement.setString(3, PASSWORD_HASH);
+                statement.setString(4, "Load");
+                statement.setString(5, "User " + i);
+                statement.setString(6, CURRENCIES[random.nextInt(CURRENCIES.length)]);
+                statement.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0 || i == options.users - 1) {
+                    statement.executeBatch();
+                    readKeys(statement, ids);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private List<CategoryProfile> insertCategories(Connection connection, Long userId) throws SQLException {
+        int incomeCount = options.categories >= 3 ? Math.min(INCOME_CATEGORIES.length, options.categories / 4 + 1)
+                : options.categories - 1;
+        List<CategoryProfile> profiles = new ArrayList<>(options.categories);
+        for (int i = 0; i < options.categories; i++) {
+            boolean income = i < incomeCount;
+            String[][] pool = income ? INCOME_CATEGORIES : EXPENSE_CATEGORIES;
+            int index = income ? i : i - incomeCount;
+            String[] template = pool[index % pool.length];
+            String name = index < pool.length ? template[0] : template[0] + " " + (index / pool.length + 1);
+            profiles.add(new CategoryProfile(name, template[1], template[2], income,
+                    new BigDecimal(template[3]).doubleValue()));
+        }
+
+        String sql = "INSERT INTO categories (user_id, name, description, color, icon, is_default, active, " +
+                     "created_at, updated_at) VALUES (?, ?, ?, ?, ?, false, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+        List<Long> ids = new ArrayList<>(profiles.size());
+        try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"})) {
+            for (CategoryProfile profile : profiles) {
+                statement.setLong(1, userId);
+                statement.setString(2, profile.name);
+                statement.setString(3, "Generated " + (profile.income ? "income" : "expense") + " category");
+                statement.setString(4, profile.color);
+                statement.setString(5, profile.icon);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            readKeys(statement, ids);
+        }
+        for (int i = 0; i < profiles.size(); i++) {
+            profiles.get(i).id = ids.get(i);
+        }
+
+        assignZipfWeights(profiles);
+        return profiles;
+    }
+
+    // ========== Transactions ==========
+
+    /**
+     * Streams transactions through COPY ... FROM STDIN; memory use is one buffer
+     */
+    private long copyTransactions(Connection connection, List<Long> userIds,
+                                  List<List<CategoryProfile>> categories) throws SQLException {
+        String sql = "COPY transactions (user_id, category_id, amount, description, transaction_date, " +
+                     "transaction_type, payment_method, notes, active, created_at, updated_at) " +
+                     "FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+        long rows = 0;
+        try {
+            for (int u = 0; u < userIds.size(); u++) {
+                for (int k = 0; k < options.transactions; k++) {
+                    GeneratedTransaction tx = generate(userIds.get(u), categories.get(u));
+                    String timestamp = TIMESTAMP_FORMAT.format(tx.createdAt);
+                    buffer.append(tx.userId).append(',')
+                            .append(tx.categoryId).append(',')
+                            .append(tx.amount.toPlainString()).append(',')
+                            .append(tx.description).append(',')
+                            .append(tx.date).append(',')
+                            .append(tx.type).append(',')
+                            .append(tx.paymentMethod).append(',')
+                            .append(tx.notes == null ? "" : tx.notes).append(',')
+                            .append(tx.active).append(',')
+                            .append(timestamp).append(',')
+                            .append(timestamp).append('\n');
+                    rows++;
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        writeCopy(copyIn, buffer);
+                    }
+                }
+                logProgress(u, userIds.size(), rows);
+            }
+            writeCopy(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Batched INSERT fallback for databases without COPY (H2)
+     */
+    private long insertTransactions(Connection connection, List<Long> userIds,
+                                    List<List<CategoryProfile>> categories) throws SQLException {
+        String sql = "INSERT INTO transactions (id, user_id, category_id, amount, description, transaction_date, " +
+                     "transaction_type, payment_method, notes, active, created_at, updated_at) " +
+                     "VALUES (NEXT VALUE FOR transactions_id_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int u = 0; u < userIds.size(); u++) {
+                for (int k = 0; k < options.transactions; k++) {
+                    GeneratedTransaction tx = generate(userIds.get(u), categories.get(u));
+                    Timestamp timestamp = Timestamp.valueOf(tx.createdAt);
+                    statement.setLong(1, tx.userId);
+                    statement.setLong(2, tx.categoryId);
+                    statement.setBigDecimal(3, tx.amount);
+                    statement.setString(4, tx.description);
+                    statement.setObject(5, tx.date);
+                    statement.setString(6, tx.type);
+                    statement.setString(7, tx.paymentMethod);
+                    statement.setString(8, tx.notes);
+                    statement.setBoolean(9, tx.active);
+                    statement.setTimestamp(10, timestamp);
+                    statement.setTimestamp(11, timestamp);
+                    statement.addBatch();
+                    rows++;
+                    if (rows % INSERT_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                    if (rows % COMMIT_EVERY_ROWS == 0) {
+                        connection.commit();
+                    }
+                }
+                logProgress(u, userIds.size(), rows);
+            }
+            statement.executeBatch();
+        }
+        return rows;
+    }
+
+    /**
+     * Rebuilds the monthly rollup buckets of the generated users (see V4)
+     */
+    private void refreshRollup(Connection connection, String runTag) throws SQLException {
+        String sql = "INSERT INTO transaction_monthly_rollup " +
+                     "(user_id, category_id, year, month, transaction_type, total_amount, transaction_count) " +
+                     "SELECT t.user_id, t.category_id, " +
+                     "CAST(EXTRACT(YEAR FROM t.transaction_date) AS INT), " +
+                     "CAST(EXTRACT(MONTH FROM t.transaction_date) AS INT), " +
+                     "t.transaction_type, SUM(t.amount), COUNT(*) " +
+                     "FROM transactions t JOIN users u ON u.id = t.user_id " +
+                     "WHERE u.email LIKE ? AND t.active = true " +
+                     "GROUP BY t.user_id, t.category_id, " +
+                     "EXTRACT(YEAR FROM t.transaction_date), EXTRACT(MONTH FROM t.transaction_date), " +
+                     "t.transaction_type";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, runTag + ".%");
+            log("Inserted %d monthly rollup buckets", statement.executeUpdate());
+        }
+    }
+
+    private GeneratedTransaction generate(Long userId, List<CategoryProfile> categories) {
+        boolean income = categories.get(0).income && random.nextDouble() < options.incomeFraction;
+        CategoryProfile category = pickCategory(categories, income);
+        LocalDate date = randomDate();
+
+        double raw = category.medianAmount * Math.exp(AMOUNT_SIGMA * random.nextGaussian());
+        BigDecimal amount = BigDecimal.valueOf(raw).setScale(2, RoundingMode.HALF_UP)
+                .max(new BigDecimal("0.01"))
+                .min(MAX_AMOUNT);
+
+        GeneratedTransaction tx = new GeneratedTransaction();
+        tx.userId = userId;
+        tx.categoryId = category.id;
+        tx.type = category.income ? "INCOME" : "EXPENSE";
+        tx.amount = category.income ? amount : amount.negate();
+        tx.description = category.name + " " + MERCHANTS[random.nextInt(MERCHANTS.length)];
+        tx.date = date;
+        tx.paymentMethod = category.income ? "TRANSFER" : randomPaymentMethod();
+        tx.notes = random.nextDouble() < 0.1 ? "Generated" : null;
+        tx.active = random.nextDouble() >= options.deletedFraction;
+        tx.createdAt = date.atTime(7 + random.nextInt(15), random.nextInt(60), random.nextInt(60));
+        return tx;
+    }
+
+    // ========== Distributions ==========
+
+    /**
+     * Zipf weights per kind (income / expense) in category order, as cumulative sums
+     */
+    private void assignZipfWeights(List<CategoryProfile> profiles) {
+        double incomeTotal = 0;
+        double expenseTotal = 0;
+        int incomeRank = 0;
+        int expenseRank = 0;
+        for (CategoryProfile profile : profiles) {
+            int rank = profile.income ? ++incomeRank : ++expenseRank;
+            double weight = 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            if (profile.income) {
+                incomeTotal += weight;
+                profile.cumulativeWeight = incomeTotal;
+            } else {
+                expenseTotal += weight;
+                profile.cumulativeWeight = expenseTotal;
+            }
+        }
+        for (CategoryProfile profile : profiles) {
+            profile.cumulativeWeight /= profile.income ? incomeTotal : expenseTotal;
+        }
+    }
+
+    private CategoryProfile pickCategory(List<CategoryProfile> categories, boolean income) {
+        double r = random.nextDouble();
+        CategoryProfile last = null;
+        for (CategoryProfile category : categories) {
+            if (category.income != income) {
+                continue;
+            }
+            last = category;
+            if (r < category.cumulativeWeight) {
+                return category;
+            }
+        }
+        return last != null ? last : categories.get(categories.size() - 1);
+    }
+
+    /**
+     * Uniform day in range, thinned by month and weekend weights (rejection sampling)
+     */
+    private LocalDate randomDate() {
+        while (true) {
+            LocalDate date = firstDate.plusDays(random.nextInt(daySpan));
+            double weight = MONTH_WEIGHTS[date.getMonthValue() - 1]
+                    * (date.getDayOfWeek().getValue() >= 6 ? WEEKEND_WEIGHT : 1.0);
+            if (random.nextDouble() * MAX_DATE_WEIGHT < weight) {
+                return date;
+            }
+        }
+    }
+
+    private String randomPaymentMethod() {
+        double r = random.nextDouble();
+        if (r < 0.55) {
+            return "CARD";
+        }
+        if (r < 0.75) {
+            return "CASH";
+        }
+        return r < 0.95 ? "TRANSFER" : "OTHER";
+    }
+
+    // ========== Helpers ==========
+
+    private static void readKeys(Statement statement, List<Long> ids) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+
+    private static void writeCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void logProgress(int userIndex, int userCount, long rows) {
+        int step = Math.max(1, userCount / 20);
+        if ((userIndex + 1) % step == 0 || userIndex == userCount - 1) {
+            log("  %d/%d users, %d transactions", userIndex + 1, userCount, rows);
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+
+    // ========== Value Holders ==========
+
+    private static final class CategoryProfile {
+        private final String name;
+        private final String color;
+        private final String icon;
+        private final boolean income;
+        private final double medianAmount;
+        private Long id;
+        private double cumulativeWeight;
+
+        private CategoryProfile(String name, String color, String icon, boolean income, double medianAmount) {
+            this.name = name;
+            this.color = color;
+            this.icon = icon;
+            this.income = income;
+            this.medianAmount = medianAmount;
+        }
+    }
+
+    private static final class GeneratedTransaction {
+        private Long userId;
+        private Long categoryId;
+        private BigDecimal amount;
+        private String description;
+        private LocalDate date;
+        private String type;
+        private String paymentMethod;
+        private String notes;
+        private boolean active;
+        private LocalDateTime createdAt;
+    }
+
+    private static final class Options {
+        private String url = "jdbc:postgresql://localhost:5432/expense_tracker";
+        private String username = "expense_user";
+        private String password = "expense_secure_password";
+        private int users = 100;
+        private int categories = 12;
+        private int transactions = 1_000;
+        private int years = 3;
+        private double incomeFraction = 0.06;
+        private double deletedFraction = 0.03;
+        private long seed = 42L;
+
+        private static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (name.equals("--help")) {
+                    System.out.println("Options: --url --user --password --users --categories --transactions " +
+                                       "--years --income-fraction --deleted-fraction --seed");
+                    System.exit(0);
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--url" -> options.url = value;
+                    case "--user" -> options.username = value;
+                    case "--password" -> options.password = value;
+                    case "--users" -> options.users = Integer.parseInt(value);
+                    case "--categories" -> options.categories = Integer.parseInt(value);
+                    case "--transactions" -> options.transactions = Integer.parseInt(value);
+                    case "--years" -> options.years = Integer.parseInt(value);
+                    case "--income-fraction" -> options.incomeFraction = Double.parseDouble(value);
+                    case "--deleted-fraction" -> options.deletedFraction = Double.parseDouble(value);
+                    case "--seed" -> options.seed = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            }
+            if (options.users < 1 || options.categories < 1 || options.transactions < 0 || options.years < 1) {
+                throw new IllegalArgumentException("users, categories and years must be >= 1, transactions >= 0");
+            }
+            return options;
+        }
+    }
+}
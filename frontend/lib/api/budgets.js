@@ -0,0 +1,13 @@
+import api from './axios.config';
+
+/**
+ * API Client para presupuestos
+ */
+
+// Obtener el estado de los presupuestos de un mes (por defecto, el mes actual)
+export const getBudgetStatus = async (year, month) => {
+  const response = await api.get('/budgets/status', {
+    params: { year, month }
+  });
+  return response.data;
+};
@@ -0,0 +1,13 @@
+import api from './axios.config';
+
+/**
+ * API Client para el dashboard
+ */
+
+// Obtener todos los datos del dashboard en una sola llamada
+export const getDashboard = async (startDate, endDate, recentLimit = 5) => {
+  const response = await api.get('/dashboard', {
+    params: { startDate, endDate, recentLimit }
+  });
+  return response.data;
+};
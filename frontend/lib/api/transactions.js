@@ -22,6 +22,30 @@ export const getTransactionsByDateRange = async (startDate, endDate, params = {}
   return response.data;
 };
 
+// Buscar transacciones combinando filtros (fechas, categorías, tipo, método de pago, montos y texto)
+export const searchTransactions = async (filters = {}, params = {}) => {
+  const { page = 0, size = 20 } = params;
+  const { categoryIds, ...rest } = filters;
+  const response = await api.get('/transactions/search', {
+    params: {
+      ...rest,
+      categoryIds: categoryIds?.length ? categoryIds.join(',') : undefined,
+      page,
+      size
+    }
+  });
+  return response.data;
+};
+
+// Búsqueda de texto completo en descripción y notas, mejores coincidencias primero
+export const searchTransactionsByText = async (q, params = {}) => {
+  const { page = 0, size = 20 } = params;
+  const response = await api.get('/transactions/search', {
+    params: { q, page, size }
+  });
+  return response.data;
+};
+
 // Obtener una transacción por ID
 export const getTransactionById = async (id) => {
   const response = await api.get(`/transactions/${id}`);
@@ -70,3 +94,14 @@ export const getRecentTransactions = async (limit = 5) => {
   return response.data;
 };
 
+
+// Suscribirse a los cambios de transacciones (Server-Sent Events)
+// onChange recibe { changeType, transactionId, transaction, totalsDeltas }
+// Devuelve una función para cerrar la conexión
+export const subscribeToTransactionChanges = (onChange) => {
+  const source = new EventSource(`${api.defaults.baseURL}/transactions/stream`);
+  source.addEventListener('transaction', (event) => {
+    onChange(JSON.parse(event.data));
+  });
+  return () => source.close();
+};
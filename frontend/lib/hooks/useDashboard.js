@@ -1,7 +1,7 @@
 'use client';
 
 import { useState, useEffect, useCallback } from 'react';
-import * as transactionsApi from '../api/transactions';
+import * as dashboardApi from '../api/dashboard';
 import { formatDateForInput } from '../utils/formatters';
 import { getDateRange } from '../utils/helpers';
 
@@ -17,6 +17,7 @@ export const useDashboard = (initialDateRange = 'thisMonth') => {
   
   const [expensesByCategory, setExpensesByCategory] = useState([]);
   const [recentTransactions, setRecentTransactions] = useState([]);
+  const [transactionCount, setTransactionCount] = useState(0);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
 
@@ -34,40 +35,33 @@ export const useDashboard = (initialDateRange = 'thisMonth') => {
       setLoading(true);
       setError(null);
 
-      // Cargar en paralelo: totales, gastos por categoría, transacciones recientes
-      const [totalsData, categoryData, recentData] = await Promise.all([
-        transactionsApi.getTransactionTotals(dateRange.startDate, dateRange.endDate),
-        transactionsApi.getExpensesByCategory(dateRange.startDate, dateRange.endDate),
-        transactionsApi.getRecentTransactions(5),
-      ]);
+      // Una sola llamada: totales, gastos por categoría y transacciones recientes
+      const dashboard = await dashboardApi.getDashboard(dateRange.startDate, dateRange.endDate, 5);
 
-      setTotals(totalsData || { totalIncome: 0, totalExpenses: 0, balance: 0 });
+      setTotals({
+        totalIncome: dashboard?.totalIncome ?? 0,
+        totalExpenses: dashboard?.totalExpenses ?? 0,
+        balance: dashboard?.balance ?? 0,
+      });
       
-      // Transformar Map a Array si es necesario
-      let formattedCategoryData = [];
-      if (categoryData) {
-        if (Array.isArray(categoryData)) {
-          formattedCategoryData = categoryData;
-        } else if (typeof categoryData === 'object') {
-          // Convertir objeto/mapa a array
-          const categoryArray = Object.entries(categoryData).map(([categoryName, totalAmount]) => ({
-            categoryName,
-            totalAmount: Math.abs(Number(totalAmount)),
-          }));
-          
-          // Calcular total para porcentajes
-          const total = categoryArray.reduce((sum, item) => sum + item.totalAmount, 0);
-          
-          // Agregar porcentajes
-          formattedCategoryData = categoryArray.map(item => ({
-            ...item,
-            percentage: total > 0 ? ((item.totalAmount / total) * 100).toFixed(1) : 0,
-          }));
-        }
-      }
+      // Transformar Map a Array (ya viene ordenado de mayor a menor)
+      const categoryArray = Object.entries(dashboard?.expensesByCategory || {}).map(([categoryName, totalAmount]) => ({
+        categoryName,
+        totalAmount: Math.abs(Number(totalAmount)),
+      }));
+      
+      // Calcular total para porcentajes
+      const total = categoryArray.reduce((sum, item) => sum + item.totalAmount, 0);
+      
+      // Agregar porcentajes
+      const formattedCategoryData = categoryArray.map(item => ({
+        ...item,
+        percentage: total > 0 ? ((item.totalAmount / total) * 100).toFixed(1) : 0,
+      }));
       
       setExpensesByCategory(formattedCategoryData);
-      setRecentTransactions(Array.isArray(recentData?.content) ? recentData.content : []);
+      setTransactionCount(dashboard?.transactionCount ?? 0);
+      setRecentTransactions(Array.isArray(dashboard?.recentTransactions) ? dashboard.recentTransactions : []);
     } catch (err) {
       setError(err.message || 'Error al cargar datos del dashboard');
       console.error('Error fetching dashboard data:', err);
@@ -93,6 +87,7 @@ export const useDashboard = (initialDateRange = 'thisMonth') => {
     totals,
     expensesByCategory,
     recentTransactions,
+    transactionCount,
     loading,
     error,
     dateRange,